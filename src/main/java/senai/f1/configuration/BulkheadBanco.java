@@ -0,0 +1,150 @@
+package senai.f1.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Bulkhead na frente do pool: uma permissão por conexão aberta (semáforo justo, do tamanho do pool Hikari).
+// Com threads virtuais podem existir milhares de requisições ao mesmo tempo; elas esperam aqui em ordem de
+// chegada e, passado o prazo, a requisição é recusada com 503 em vez de ficar presa na aquisição de conexão.
+public class BulkheadBanco extends DelegatingDataSource implements MeterBinder {
+
+    private final Semaphore permissoes;
+    private final int capacidade;
+    private final Duration esperaMaxima;
+
+    // Criados no bindTo; antes disso (ex.: Flyway na subida) a espera não é medida
+    private volatile Timer espera;
+    private volatile Counter rejeicoes;
+
+    public BulkheadBanco(DataSource alvo, int capacidade, Duration esperaMaxima) {
+        super(alvo);
+        this.permissoes = new Semaphore(capacidade, true);
+        this.capacidade = capacidade;
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        return liberarAoFechar(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        return liberarAoFechar(() -> super.getConnection(username, password));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        espera = Timer.builder("f1.bulkhead.espera")
+                .description("Tempo na fila do bulkhead até obter permissão para abrir conexão")
+                .publishPercentileHistogram()
+                .register(registry);
+        rejeicoes = Counter.builder("f1.bulkhead.rejeicoes")
+                .description("Requisições recusadas por esperar mais que o prazo do bulkhead")
+                .register(registry);
+        Gauge.builder("f1.bulkhead.fila", permissoes, Semaphore::getQueueLength)
+                .description("Threads esperando permissão")
+                .register(registry);
+        Gauge.builder("f1.bulkhead.em.uso", permissoes, p -> capacidade - p.availablePermits())
+                .description("Permissões em uso (conexões abertas pelo bulkhead)")
+                .register(registry);
+    }
+
+    public int capacidade() {
+        return capacidade;
+    }
+
+    public int disponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    private void adquirir() throws SQLException {
+        long inicio = System.nanoTime();
+        boolean obtida;
+        try {
+            obtida = permissoes.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido esperando conexão", e);
+        }
+        Timer timer = espera;
+        if (timer != null) {
+            timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+        if (!obtida) {
+            Counter counter = rejeicoes;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new BulkheadCheioException(capacidade, esperaMaxima);
+        }
+    }
+
+    private Connection liberarAoFechar(Abertura abertura) throws SQLException {
+        Connection conexao;
+        try {
+            conexao = abertura.abrir();
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new Liberacao(conexao));
+    }
+
+    private interface Abertura {
+        Connection abrir() throws SQLException;
+    }
+
+    // Devolve a permissão uma única vez, no primeiro close() da conexão
+    private final class Liberacao implements InvocationHandler {
+        private final Connection conexao;
+        private final AtomicBoolean fechada = new AtomicBoolean();
+
+        Liberacao(Connection conexao) {
+            this.conexao = conexao;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(conexao, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (method.getName().equals("close") && fechada.compareAndSet(false, true)) {
+                    permissoes.release();
+                }
+            }
+        }
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class BulkheadCheioException extends SQLTransientConnectionException {
+        public BulkheadCheioException(int capacidade, Duration esperaMaxima) {
+            super("Banco ocupado: " + capacidade + " conexões em uso e nenhuma liberada em "
+                    + esperaMaxima.toMillis() + " ms");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package senai.f1.configuration;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+// Caches Caffeine em memória; tamanho, TTL e estatísticas em spring.cache.caffeine.spec
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String PAISES = "paises";
+    public static final String PAISES_POR_NOME = "paisesPorNome";
+    public static final String PISTAS = "pistas";
+    public static final String ESTATISTICAS_PILOTO = "estatisticasPiloto";
+
+    // O mesmo Caffeine que o Spring Boot montaria, atrás do proxy transacional: evict, clear e put feitos
+    // dentro de uma transação esperam o commit e não acontecem no rollback. Uma leitura concorrente entre a
+    // escrita e o commit não deixa a linha antiga no cache até o TTL.
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        String spec = properties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            caffeine.setCacheSpecification(spec);
+        }
+        if (!properties.getCacheNames().isEmpty()) {
+            caffeine.setCacheNames(properties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
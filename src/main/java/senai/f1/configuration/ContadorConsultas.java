@@ -0,0 +1,57 @@
+package senai.f1.configuration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Conta os statements SQL preparados pela thread da requisição (registrado no Hibernate como StatementInspector).
+// O SQL chega com "?" no lugar dos parâmetros, então o mesmo texto repetido muitas vezes é a assinatura de um N+1.
+@Component
+public class ContadorConsultas implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Registro> ATUAL = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Registro registro = ATUAL.get();
+        if (registro != null) {
+            registro.porSql.merge(sql, 1, Integer::sum);
+            registro.total++;
+        }
+        return sql;
+    }
+
+    public static Registro iniciar() {
+        Registro registro = new Registro();
+        ATUAL.set(registro);
+        return registro;
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    public static final class Registro {
+        private final Map<String, Integer> porSql = new HashMap<>();
+        private int total;
+
+        public int total() {
+            return total;
+        }
+
+        // Statements executados pelo menos "minimo" vezes na mesma requisição
+        public List<Map.Entry<String, Integer>> repetidos(int minimo) {
+            return porSql.entrySet().stream().filter(e -> e.getValue() >= minimo).toList();
+        }
+    }
+}
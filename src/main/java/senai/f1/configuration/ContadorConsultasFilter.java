@@ -0,0 +1,91 @@
+package senai.f1.configuration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+// Publica o total de statements da requisição em X-Query-Count e avisa no log quando o endpoint passa do
+// orçamento ou repete o mesmo statement (N+1)
+@Slf4j
+@Component
+public class ContadorConsultasFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Query-Count";
+
+    @Value("${f1.consultas.orcamento:10}")
+    private int orcamento;
+
+    @Value("${f1.consultas.repeticoes-suspeitas:3}")
+    private int repeticoesSuspeitas;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorConsultas.Registro registro = ContadorConsultas.iniciar();
+        ComContagem resposta = new ComContagem(response, registro);
+        try {
+            chain.doFilter(request, resposta);
+        } finally {
+            ContadorConsultas.encerrar();
+            resposta.publicar();
+            avaliar(request, registro);
+        }
+    }
+
+    private void avaliar(HttpServletRequest request, ContadorConsultas.Registro registro) {
+        if (registro.total() > orcamento) {
+            log.warn("{} {} executou {} consultas (orçamento {})",
+                    request.getMethod(), request.getRequestURI(), registro.total(), orcamento);
+        }
+        for (Map.Entry<String, Integer> repetido : registro.repetidos(repeticoesSuspeitas)) {
+            log.warn("Possível N+1 em {} {}: statement executado {} vezes: {}",
+                    request.getMethod(), request.getRequestURI(), repetido.getValue(), repetido.getKey());
+        }
+    }
+
+    // O header precisa sair antes do corpo: é gravado quando a resposta começa a ser escrita (ou no fim, se vazia)
+    private static final class ComContagem extends HttpServletResponseWrapper {
+        private final ContadorConsultas.Registro registro;
+        private boolean publicado;
+
+        ComContagem(HttpServletResponse response, ContadorConsultas.Registro registro) {
+            super(response);
+            this.registro = registro;
+        }
+
+        void publicar() {
+            if (!publicado && !isCommitted()) {
+                setIntHeader(HEADER, registro.total());
+            }
+            publicado = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            publicar();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            publicar();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            publicar();
+            super.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package senai.f1.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.time.Duration;
+
+// Execução das requisições e do trabalho assíncrono.
+// Com spring.threads.virtual.enabled=true o Tomcat, o @Async e as requisições assíncronas do MVC (exportação)
+// rodam em threads virtuais; o limite de concorrência passa a ser o bulkhead do banco (BulkheadBanco),
+// do tamanho do pool Hikari. As métricas dele são registradas pelo Spring Boot, que liga todo bean MeterBinder.
+@Configuration
+@EnableAsync
+public class ExecucaoConfig {
+
+    // static: BeanPostProcessor precisa existir antes dos demais beans da configuração
+    @Bean
+    @ConditionalOnProperty(name = "f1.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor bulkheadBancoPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    Duration esperaMaxima = environment.getProperty("f1.bulkhead.espera-maxima",
+                            Duration.class, Duration.ofSeconds(10));
+                    return new BulkheadBanco(hikari, hikari.getMaximumPoolSize(), esperaMaxima);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package senai.f1.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Formatos de resposta negociados pelo Accept em todos os controllers: JSON (padrão), CBOR (application/cbor),
+// Smile (application/x-jackson-smile) e, para corridas e campeonatos, JSON normalizado
+// (application/vnd.f1.normalizado+json). Os mapeadores binários saem do mesmo Jackson2ObjectMapperBuilder do
+// JSON (módulos e spring.jackson.*); nesses formatos os UUIDs são gravados como 16 bytes binários.
+// A compressão gzip acima de server.compression.min-response-size fica no Tomcat.
+@Configuration
+public class FormatosConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // Conversor que não substitui nenhum padrão: o Spring Boot o põe à frente do JSON comum, que também
+    // escreveria application/*+json
+    @Bean
+    public JsonNormalizadoHttpMessageConverter jsonNormalizadoHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new JsonNormalizadoHttpMessageConverter(builder.build());
+    }
+
+    // A mesma URL responde em formatos diferentes conforme o Accept; caches intermediários precisam saber disso
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        });
+    }
+}
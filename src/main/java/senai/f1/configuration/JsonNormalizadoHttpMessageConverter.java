@@ -0,0 +1,60 @@
+package senai.f1.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import senai.f1.mappers.NormalizadoMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+// JSON normalizado (Accept: application/vnd.f1.normalizado+json) para corridas e campeonatos, um item ou
+// uma lista: pilotos, pistas e países expandidos saem uma vez em "included" em vez de repetidos a cada
+// corrida. Outros tipos de resposta nesse Accept caem no conversor JSON comum.
+public class JsonNormalizadoHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType NORMALIZADO = MediaType.valueOf("application/vnd.f1.normalizado+json");
+
+    public JsonNormalizadoHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, NORMALIZADO);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    // Só responde quando o Accept pede o tipo normalizado (mediaType nulo é a pergunta "o que você produz?").
+    // Assim o Accept */* continua caindo no JSON comum, mesmo com este conversor à frente da lista; o tipo
+    // normalizado segue negociável porque o conversor JSON anuncia application/*+json.
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && NormalizadoMapper.normalizavel(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    // Listas chegam com o tipo genérico declarado no controller (List<CorridaResponseDTO>)
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type == null) {
+            return canWrite(clazz, mediaType);
+        }
+        ResolvableType tipo = ResolvableType.forType(type);
+        Class<?> item = Collection.class.isAssignableFrom(tipo.toClass()) ? tipo.getGeneric(0).toClass() : tipo.toClass();
+        return mediaType != null && NormalizadoMapper.normalizavel(item) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        super.writeInternal(NormalizadoMapper.toDTO(object), null, outputMessage);
+    }
+}
@@ -0,0 +1,35 @@
+package senai.f1.configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+// Métricas expostas em /actuator/prometheus:
+// - http.server.requests: cada endpoint (automático no Spring MVC)
+// - f1.service: cada método dos services (@Timed na classe)
+// - spring.data.repository.invocations: cada método de repositório, inclusive as consultas nomeadas
+// - hibernate.*: Statistics do Hibernate (consultas, carga de entidades, cache de segundo nível, consulta mais lenta)
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // O tempo da consulta mais lenta já sai em hibernate.query.executions.max; o texto dela vai para /actuator/info
+    @Bean
+    public InfoContributor consultaMaisLentaInfo(EntityManagerFactory emf) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        return builder -> builder.withDetail("consultaMaisLenta", Map.of(
+                "tempoMs", statistics.getQueryExecutionMaxTime(),
+                "consulta", String.valueOf(statistics.getQueryExecutionMaxTimeQueryString())));
+    }
+}
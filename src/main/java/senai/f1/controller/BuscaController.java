@@ -0,0 +1,36 @@
+package senai.f1.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import senai.f1.dtos.response.ResultadoBuscaDTO;
+import senai.f1.service.BuscaService;
+
+import java.util.List;
+
+@CrossOrigin(originPatterns = "*")
+@RestController
+@RequestMapping("/buscar")
+@RequiredArgsConstructor
+@Tag(name = "Busca", description = "Busca aproximada em países, pilotos e pistas")
+public class BuscaController {
+    private final BuscaService buscaService;
+
+    @GetMapping
+    @Operation(summary = "Buscar países, pilotos e pistas",
+            description = "Procura o texto no nome dos países, no nome e na equipe dos pilotos e no país das " +
+                    "pistas, sem diferenciar acentos nem maiúsculas e tolerando erros de digitação. Os resultados " +
+                    "vêm ordenados por relevância: texto igual, depois começando com a consulta, depois parecidos.")
+    @ApiResponse(responseCode = "200", description = "Resultados da busca; lista vazia quando nada casa")
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscar(
+            @Parameter(description = "Texto procurado, por exemplo \"italia\" ou \"Itália\"", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Quantidade máxima de resultados (padrão 20, máximo 100)")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(buscaService.buscar(q, limit));
+    }
+}
@@ -10,14 +10,22 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import senai.f1.dtos.request.CampeonatoRequestDTO;
+import senai.f1.dtos.request.Expansao;
 import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.dtos.response.ClassificacaoResponseDTO;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
 import senai.f1.service.CampeonatoService;
+import senai.f1.service.ClassificacaoService;
+import senai.f1.service.CorridaService;
 
 import java.util.List;
 import java.util.UUID;
 
-@CrossOrigin(origins = "*")
+@CrossOrigin(originPatterns = "*")
 @RestController
 @RequestMapping("/campeonatos")
 @RequiredArgsConstructor
@@ -25,6 +33,8 @@ import java.util.UUID;
 public class CampeonatoController {
 
     private final CampeonatoService campeonatoService;
+    private final ClassificacaoService classificacaoService;
+    private final CorridaService corridaService;
 
     @PostMapping
     @Operation(
@@ -50,32 +60,158 @@ public class CampeonatoController {
     @GetMapping
     @Operation(
             summary = "Listar campeonatos",
-            description = "Retorna todos os campeonatos cadastrados",
+            description = "Retorna os campeonatos cadastrados em páginas ordenadas por ID. Por padrão cada " +
+                    "campeonato traz só o resumo (corridas, países visitados e distância total); as corridas saem " +
+                    "com fields=corridas (só os ids) ou expand=corridas. Com Accept application/vnd.f1.normalizado+json, cada pista, país " +
+                    "e piloto expandido vem uma vez em \"included\". Aceita If-None-Match com o ETag de uma " +
+                    "resposta anterior",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso",
                             content = @Content(mediaType = "application/json",
-                                    schema = @Schema(implementation = CampeonatoResponseDTO.class)))
+                                    schema = @Schema(implementation = CampeonatoResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Página inalterada desde o ETag informado",
+                            content = @Content)
+            }
+    )
+    public ResponseEntity<List<CampeonatoResponseDTO>> listAll(
+            @Parameter(description = "Quantidade máxima de itens por página (padrão 50, máximo 100)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Token de continuação retornado no link \"next\" da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,corridas.pista). Padrão: id e resumo")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: corridas, corridas.pista, corridas.pista.pais, " +
+                    "corridas.podio ou * para todas. As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand,
+            WebRequest request) {
+        return Condicional.get(request, campeonatoService.versoes(limit, cursor),
+                () -> PageLinks.ok(campeonatoService.listAll(limit, cursor, Expansao.de(fields, expand))));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Buscar campeonatos por vários IDs",
+            description = "Retorna uma entrada por ID, na ordem pedida; IDs inexistentes vêm com encontrado=false. " +
+                    "Para listas longas, use POST /campeonatos/lookup",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+                    @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite", content = @Content)
             }
     )
-    public ResponseEntity<List<CampeonatoResponseDTO>> listAll() {
-        return ResponseEntity.ok(campeonatoService.listAll());
+    public ResponseEntity<List<ItemPorIdDTO<CampeonatoResponseDTO>>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,corridas.pista). Padrão: id e resumo")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: corridas, corridas.pista, corridas.pista.pais, " +
+                    "corridas.podio ou * para todas. As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(campeonatoService.findAllById(ids, Expansao.de(fields, expand)));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(
+            summary = "Buscar campeonatos por vários IDs (lote)",
+            description = "Igual a GET /campeonatos?ids=..., com os IDs no corpo: até 10.000 por requisição",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+                    @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite", content = @Content)
+            }
+    )
+    public ResponseEntity<List<ItemPorIdDTO<CampeonatoResponseDTO>>> lookup(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs dos campeonatos",
+                    required = true
+            )
+            @RequestBody List<UUID> ids,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,corridas.pista). Padrão: id e resumo")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: corridas, corridas.pista, corridas.pista.pais, " +
+                    "corridas.podio ou * para todas. As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(campeonatoService.findAllById(ids, Expansao.de(fields, expand)));
     }
 
     @GetMapping("/{id}")
     @Operation(
             summary = "Buscar campeonato por ID",
-            description = "Retorna os dados de um campeonato específico",
+            description = "Retorna os dados de um campeonato específico. Por padrão só o resumo; as corridas " +
+                    "saem com fields=corridas (só os ids) ou expand=corridas, ou paginadas em " +
+                    "GET /campeonatos/{id}/corridas. Também responde em application/vnd.f1.normalizado+json, como a listagem. O ETag muda " +
+                    "quando o campeonato ou qualquer corrida, pista, país ou piloto do pódio dele muda",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Campeonato encontrado",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = CampeonatoResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Campeonato inalterado desde o ETag informado",
+                            content = @Content),
                     @ApiResponse(responseCode = "404", description = "Campeonato não encontrado", content = @Content)
             }
     )
     public ResponseEntity<CampeonatoResponseDTO> findById(
+            @Parameter(description = "ID único do campeonato", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,corridas.pista). Padrão: id e resumo")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: corridas, corridas.pista, corridas.pista.pais, " +
+                    "corridas.podio ou * para todas. As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand,
+            WebRequest request) {
+        return Condicional.get(request, campeonatoService.versao(id),
+                () -> ResponseEntity.ok(campeonatoService.findById(id, Expansao.de(fields, expand))));
+    }
+
+    @GetMapping("/{id}/corridas")
+    @Operation(
+            summary = "Corridas do campeonato",
+            description = "Retorna as corridas de um campeonato em páginas ordenadas por ID, com os mesmos fields " +
+                    "e expand de GET /corridas. O ETag é o do campeonato",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página de corridas",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CorridaResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Campeonato inalterado desde o ETag informado",
+                            content = @Content),
+                    @ApiResponse(responseCode = "404", description = "Campeonato não encontrado", content = @Content)
+            }
+    )
+    public ResponseEntity<List<CorridaResponseDTO>> corridas(
+            @Parameter(description = "ID único do campeonato", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Quantidade máxima de itens por página (padrão 50, máximo 100)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Token de continuação retornado no link \"next\" da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand,
+            WebRequest request) {
+        return Condicional.get(request, campeonatoService.versao(id),
+                () -> PageLinks.ok(corridaService.findByCampeonato(id, limit, cursor, Expansao.de(fields, expand))));
+    }
+
+    @GetMapping("/{id}/classificacao")
+    @Operation(
+            summary = "Classificação do campeonato",
+            description = "Retorna a tabela de pontos dos pilotos no campeonato, do líder ao último colocado",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Classificação retornada com sucesso",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ClassificacaoResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Campeonato não encontrado", content = @Content)
+            }
+    )
+    public ResponseEntity<List<ClassificacaoResponseDTO>> classificacao(
             @Parameter(description = "ID único do campeonato", required = true)
             @PathVariable UUID id) {
-        return ResponseEntity.ok(campeonatoService.findById(id));
+        return ResponseEntity.ok(classificacaoService.findByCampeonato(id));
     }
 
     @PutMapping("/{id}")
@@ -118,6 +254,42 @@ public class CampeonatoController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(params = "ids")
+    @Operation(
+            summary = "Excluir campeonatos por vários IDs",
+            description = "Remove os campeonatos informados com um DELETE por bloco de IDs; IDs inexistentes " +
+                    "são ignorados e a resposta traz quantos foram removidos. As corridas continuam " +
+                    "existindo. Para listas longas, use POST /campeonatos/delete.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Campeonatos removidos, com as contagens"),
+                    @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite", content = @Content)
+            }
+    )
+    public ResponseEntity<ExclusaoResponseDTO> deleteAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(campeonatoService.deleteAllById(ids));
+    }
+
+    @PostMapping("/delete")
+    @Operation(
+            summary = "Excluir campeonatos por vários IDs (lote)",
+            description = "Igual a DELETE /campeonatos?ids=..., com os IDs no corpo: até 10.000 por " +
+                    "requisição.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Campeonatos removidos, com as contagens"),
+                    @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite", content = @Content)
+            }
+    )
+    public ResponseEntity<ExclusaoResponseDTO> deleteLote(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs dos campeonatos",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(campeonatoService.deleteAllById(ids));
+    }
+
     @GetMapping("/buscar/equipe")
     @Operation(
             summary = "Buscar campeonatos por equipe",
@@ -131,7 +303,13 @@ public class CampeonatoController {
     )
     public ResponseEntity<List<CampeonatoResponseDTO>> findByEquipe(
             @Parameter(description = "Nome da equipe para filtrar campeonatos", required = true)
-            @RequestParam String nome) {
-        return ResponseEntity.ok(campeonatoService.findByEquipe(nome));
+            @RequestParam String nome,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,corridas.pista). Padrão: id e resumo")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: corridas, corridas.pista, corridas.pista.pais, " +
+                    "corridas.podio ou * para todas. As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(campeonatoService.findByEquipe(nome, Expansao.de(fields, expand)));
     }
 }
@@ -0,0 +1,34 @@
+package senai.f1.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+// GET condicional: o ETag é o hash das versões (@Version) de tudo o que aparece na resposta, lidas por
+// uma consulta só de versões. Se bater com o If-None-Match, a resposta é 304 e o corpo nem é montado;
+// senão o ETag sai no cabeçalho da resposta 200.
+// É um ETag fraco (W/): a mesma versão vale para JSON, CBOR ou Smile, com ou sem gzip, e o Tomcat não
+// comprime respostas com ETag forte.
+final class Condicional {
+
+    private Condicional() { }
+
+    static <T> ResponseEntity<T> get(WebRequest request, List<Object[]> versoes,
+                                     Supplier<ResponseEntity<T>> resposta) {
+        if (request.checkNotModified(etag(versoes))) {
+            return null;
+        }
+        return resposta.get();
+    }
+
+    static String etag(List<Object[]> versoes) {
+        StringBuilder linhas = new StringBuilder();
+        versoes.forEach(linha -> linhas.append(Arrays.toString(linha)).append('\n'));
+        return "W/\"" + DigestUtils.md5DigestAsHex(linhas.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
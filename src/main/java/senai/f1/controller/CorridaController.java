@@ -1,5 +1,6 @@
 package senai.f1.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,22 +10,33 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.dtos.request.Expansao;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
 import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.VerificacaoViewResponseDTO;
 import senai.f1.service.CorridaService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
-@CrossOrigin(origins = "*")
+@CrossOrigin(originPatterns = "*")
 @RestController
 @RequestMapping("/corridas")
 @RequiredArgsConstructor
 @Tag(name = "Corridas", description = "Gerenciamento de corridas de Fórmula 1")
 public class CorridaController {
     private final CorridaService corridaService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(
@@ -45,26 +57,132 @@ public class CorridaController {
         return ResponseEntity.ok(corridaService.create(dto));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Importar corridas em lote",
+            description = "Cadastra até 10.000 corridas em uma única requisição. Registros inválidos não " +
+                    "impedem a importação dos demais e são devolvidos na lista de erros com o seu índice.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(schema = @Schema(implementation = ImportacaoResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    public ResponseEntity<ImportacaoResponseDTO> importar(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Lista de corridas a serem cadastradas",
+                    required = true
+            )
+            @RequestBody List<CorridaRequestDTO> dtos) {
+        return ResponseEntity.ok(corridaService.importar(dtos));
+    }
+
     @GetMapping
     @Operation(summary = "Listar todas as corridas",
-            description = "Retorna a lista completa de corridas cadastradas.")
-    @ApiResponse(responseCode = "200", description = "Lista de corridas retornada com sucesso")
-    public ResponseEntity<List<CorridaResponseDTO>> listAll() {
-        return ResponseEntity.ok(corridaService.listAll());
+            description = "Retorna as corridas cadastradas em páginas ordenadas por ID. O link para a próxima página vem no cabeçalho Link. " +
+                    "Sem expand, pista e pódio trazem só os ids. Com Accept application/vnd.f1.normalizado+json, " +
+                    "cada pista, país e piloto expandido vem uma vez em \"included\". " +
+                    "Aceita If-None-Match com o ETag de uma resposta anterior.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista de corridas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada desde o ETag informado")
+    })
+    public ResponseEntity<List<CorridaResponseDTO>> listAll(
+            @Parameter(description = "Quantidade máxima de itens por página (padrão 50, máximo 100)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Token de continuação retornado no link \"next\" da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand,
+            WebRequest request) {
+        return Condicional.get(request, corridaService.versoes(limit, cursor),
+                () -> PageLinks.ok(corridaService.listAll(limit, cursor, Expansao.de(fields, expand))));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar corridas",
+            description = "Exporta todas as corridas em NDJSON (uma corrida por linha), escrevendo cada linha " +
+                    "à medida que é lida do banco.")
+    @ApiResponse(responseCode = "200", description = "Exportação iniciada")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody body = out -> corridaService.exportar(corrida -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(corrida));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar corridas por vários IDs",
+            description = "Retorna uma entrada por ID, na ordem pedida; IDs inexistentes vêm com encontrado=false. " +
+                    "Para listas longas, use POST /corridas/lookup.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<List<ItemPorIdDTO<CorridaResponseDTO>>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(corridaService.findAllById(ids, Expansao.de(fields, expand)));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Buscar corridas por vários IDs (lote)",
+            description = "Igual a GET /corridas?ids=..., com os IDs no corpo: até 10.000 por requisição.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<List<ItemPorIdDTO<CorridaResponseDTO>>> lookup(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs das corridas",
+                    required = true
+            )
+            @RequestBody List<UUID> ids,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(corridaService.findAllById(ids, Expansao.de(fields, expand)));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Buscar corrida por ID",
-            description = "Retorna os dados de uma corrida específica pelo seu identificador único (UUID).")
+            description = "Retorna os dados de uma corrida específica pelo seu identificador único (UUID). " +
+                    "Sem expand, pista e pódio trazem só os ids. " +
+                    "O ETag muda quando a corrida, a pista, o país ou um piloto do pódio muda.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Corrida encontrada",
                     content = @Content(schema = @Schema(implementation = CorridaResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Corrida inalterada desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Corrida não encontrada")
     })
     public ResponseEntity<CorridaResponseDTO> findById(
             @Parameter(description = "ID único da corrida", required = true)
-            @PathVariable UUID id) {
-        return ResponseEntity.ok(corridaService.findById(id));
+            @PathVariable UUID id,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand,
+            WebRequest request) {
+        return Condicional.get(request, corridaService.versao(id),
+                () -> ResponseEntity.ok(corridaService.findById(id, Expansao.de(fields, expand))));
     }
 
     @PutMapping("/{id}")
@@ -100,6 +218,48 @@ public class CorridaController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(params = "ids")
+    @Operation(summary = "Excluir corridas por vários IDs",
+            description = "Remove as corridas informadas com um DELETE por bloco de IDs; IDs inexistentes são " +
+                    "ignorados e a resposta traz quantas foram removidas. As corridas saem dos campeonatos " +
+                    "que as contêm, com os pontos que valiam. Para listas longas, use POST /corridas/delete.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Corridas removidas, com as contagens"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<ExclusaoResponseDTO> deleteAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(corridaService.deleteAllById(ids));
+    }
+
+    @PostMapping("/delete")
+    @Operation(summary = "Excluir corridas por vários IDs (lote)",
+            description = "Igual a DELETE /corridas?ids=..., com os IDs no corpo: até 10.000 por requisição.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Corridas removidas, com as contagens"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<ExclusaoResponseDTO> deleteLote(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs das corridas",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(corridaService.deleteAllById(ids));
+    }
+
+    @PostMapping("/view/verificar")
+    @Operation(summary = "Verificar o modelo de leitura das corridas",
+            description = "Compara corrida_view (de onde saem os GETs de /corridas) com as tabelas de corridas, " +
+                    "pistas, países e pilotos, recria as linhas que faltam, corrige as divergentes e remove as " +
+                    "de corridas excluídas.")
+    @ApiResponse(responseCode = "200", description = "Verificação concluída, com as contagens",
+            content = @Content(schema = @Schema(implementation = VerificacaoViewResponseDTO.class)))
+    public ResponseEntity<VerificacaoViewResponseDTO> verificarView() {
+        return ResponseEntity.ok(corridaService.verificarView());
+    }
+
     // 🔎 Consultas customizadas
     @GetMapping("/buscar/piloto")
     @Operation(summary = "Buscar corridas por piloto",
@@ -107,8 +267,14 @@ public class CorridaController {
     @ApiResponse(responseCode = "200", description = "Lista de corridas encontradas para o piloto")
     public ResponseEntity<List<CorridaResponseDTO>> findByPiloto(
             @Parameter(description = "Nome do piloto", required = true)
-            @RequestParam String nome) {
-        return ResponseEntity.ok(corridaService.findByPiloto(nome));
+            @RequestParam String nome,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(corridaService.findByPiloto(nome, Expansao.de(fields, expand)));
     }
 
     @GetMapping("/buscar/pais")
@@ -117,7 +283,13 @@ public class CorridaController {
     @ApiResponse(responseCode = "200", description = "Lista de corridas encontradas para o país")
     public ResponseEntity<List<CorridaResponseDTO>> findByPais(
             @Parameter(description = "Nome do país", required = true)
-            @RequestParam String nome) {
-        return ResponseEntity.ok(corridaService.findByPais(nome));
+            @RequestParam String nome,
+            @Parameter(description = "Campos da resposta separados por vírgula, com ponto para os aninhados " +
+                    "(ex.: id,pista). Padrão: todos")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Associações que vêm completas: pista, pista.pais, podio ou * para todas. " +
+                    "As não expandidas trazem só o id")
+            @RequestParam(required = false) String expand) {
+        return ResponseEntity.ok(corridaService.findByPais(nome, Expansao.de(fields, expand)));
     }
 }
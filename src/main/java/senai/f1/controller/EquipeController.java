@@ -0,0 +1,34 @@
+package senai.f1.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import senai.f1.dtos.response.DesempenhoEquipeResponseDTO;
+import senai.f1.service.EquipeService;
+
+@CrossOrigin(originPatterns = "*")
+@RestController
+@RequestMapping("/equipes")
+@RequiredArgsConstructor
+@Tag(name = "Equipes", description = "Relatórios de desempenho das equipes")
+public class EquipeController {
+    private final EquipeService equipeService;
+
+    @GetMapping("/{equipe}/desempenho")
+    @Operation(summary = "Desempenho da equipe",
+            description = "Retorna os pódios e vitórias dos pilotos da equipe no total, por campeonato, por " +
+                    "dificuldade da pista e por país. O nome da equipe é comparado sem diferenciar maiúsculas.")
+    @ApiResponse(responseCode = "200", description = "Desempenho calculado; equipe sem pódios vem zerada",
+            content = @Content(schema = @Schema(implementation = DesempenhoEquipeResponseDTO.class)))
+    public ResponseEntity<DesempenhoEquipeResponseDTO> desempenho(
+            @Parameter(description = "Nome da equipe", required = true)
+            @PathVariable String equipe) {
+        return ResponseEntity.ok(equipeService.desempenho(equipe));
+    }
+}
@@ -0,0 +1,27 @@
+package senai.f1.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import senai.f1.pagination.CursorPage;
+
+import java.util.List;
+
+// Devolve a página no corpo e o link para a próxima no cabeçalho "Link" (rel="next")
+final class PageLinks {
+
+    private PageLinks() { }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(page.content());
+        }
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.nextCursor())
+                .build()
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(page.content());
+    }
+}
@@ -10,7 +10,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import senai.f1.dtos.request.PaisRequestDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
 import senai.f1.dtos.response.PaisResponseDTO;
 import senai.f1.service.PaisService;
 
@@ -50,15 +52,24 @@ public class PaisController {
     @GetMapping
     @Operation(
             summary = "Listar todos os países",
-            description = "Retorna uma lista contendo todos os países cadastrados",
+            description = "Retorna os países cadastrados em páginas ordenadas por ID. Aceita If-None-Match com o " +
+                    "ETag de uma resposta anterior",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Lista de países retornada com sucesso",
                             content = @Content(mediaType = "application/json",
-                                    schema = @Schema(implementation = PaisResponseDTO.class)))
+                                    schema = @Schema(implementation = PaisResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Página inalterada desde o ETag informado",
+                            content = @Content)
             }
     )
-    public ResponseEntity<List<PaisResponseDTO>> listAll() {
-        return ResponseEntity.ok(paisService.listAll());
+    public ResponseEntity<List<PaisResponseDTO>> listAll(
+            @Parameter(description = "Quantidade máxima de itens por página (padrão 50, máximo 100)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Token de continuação retornado no link \"next\" da página anterior")
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        return Condicional.get(request, paisService.versoes(limit, cursor),
+                () -> PageLinks.ok(paisService.listAll(limit, cursor)));
     }
 
     @GetMapping("/{id}")
@@ -118,6 +129,41 @@ public class PaisController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(params = "ids")
+    @Operation(
+            summary = "Deletar países por vários IDs",
+            description = "Remove os países informados com um DELETE por bloco de IDs; IDs inexistentes são " +
+                    "ignorados e a resposta traz quantos foram removidos. Para listas longas, use POST " +
+                    "/paises/delete.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Países removidos, com as contagens"),
+                    @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite", content = @Content)
+            }
+    )
+    public ResponseEntity<ExclusaoResponseDTO> deleteAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(paisService.deleteAllById(ids));
+    }
+
+    @PostMapping("/delete")
+    @Operation(
+            summary = "Deletar países por vários IDs (lote)",
+            description = "Igual a DELETE /paises?ids=..., com os IDs no corpo: até 10.000 por requisição.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Países removidos, com as contagens"),
+                    @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite", content = @Content)
+            }
+    )
+    public ResponseEntity<ExclusaoResponseDTO> deleteLote(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs dos países",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(paisService.deleteAllById(ids));
+    }
+
     @GetMapping("/buscar")
     @Operation(
             summary = "Buscar país por nome",
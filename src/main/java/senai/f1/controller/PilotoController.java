@@ -12,19 +12,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import senai.f1.dtos.request.PilotoRequestDTO;
+import senai.f1.dtos.response.EstatisticasPilotoResponseDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
 import senai.f1.dtos.response.PilotoResponseDTO;
+import senai.f1.service.EstatisticasPilotoService;
 import senai.f1.service.PilotoService;
 
 import java.util.List;
 import java.util.UUID;
 
-@CrossOrigin(origins = "*")
+@CrossOrigin(originPatterns = "*")
 @RestController
 @RequestMapping("/pilotos")
 @RequiredArgsConstructor
 @Tag(name = "Pilotos", description = "Gerenciamento de pilotos de Fórmula 1")
 public class PilotoController {
     private final PilotoService pilotoService;
+    private final EstatisticasPilotoService estatisticasPilotoService;
 
     @PostMapping
     @Operation(
@@ -45,12 +51,64 @@ public class PilotoController {
         return ResponseEntity.ok(pilotoService.create(dto));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Importar pilotos em lote",
+            description = "Cadastra até 10.000 pilotos em uma única requisição. Registros inválidos não " +
+                    "impedem a importação dos demais e são devolvidos na lista de erros com o seu índice.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(schema = @Schema(implementation = ImportacaoResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    public ResponseEntity<ImportacaoResponseDTO> importar(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Lista de pilotos a serem cadastrados",
+                    required = true
+            )
+            @RequestBody List<PilotoRequestDTO> dtos) {
+        return ResponseEntity.ok(pilotoService.importar(dtos));
+    }
+
     @GetMapping
     @Operation(summary = "Listar todos os pilotos",
-            description = "Retorna a lista completa de pilotos cadastrados.")
+            description = "Retorna os pilotos cadastrados em páginas ordenadas por ID. O link para a próxima página vem no cabeçalho Link.")
     @ApiResponse(responseCode = "200", description = "Lista de pilotos retornada com sucesso")
-    public ResponseEntity<List<PilotoResponseDTO>> listAll() {
-        return ResponseEntity.ok(pilotoService.listAll());
+    public ResponseEntity<List<PilotoResponseDTO>> listAll(
+            @Parameter(description = "Quantidade máxima de itens por página (padrão 50, máximo 100)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Token de continuação retornado no link \"next\" da página anterior")
+            @RequestParam(required = false) String cursor) {
+        return PageLinks.ok(pilotoService.listAll(limit, cursor));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar pilotos por vários IDs",
+            description = "Retorna um entrada por ID, na ordem pedida; IDs inexistentes vêm com encontrado=false. " +
+                    "Para listas longas, use POST /pilotos/lookup.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<List<ItemPorIdDTO<PilotoResponseDTO>>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(pilotoService.findAllById(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Buscar pilotos por vários IDs (lote)",
+            description = "Igual a GET /pilotos?ids=..., com os IDs no corpo: até 10.000 por requisição.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<List<ItemPorIdDTO<PilotoResponseDTO>>> lookup(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs dos pilotos",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(pilotoService.findAllById(ids));
     }
 
     @GetMapping("/{id}")
@@ -67,6 +125,22 @@ public class PilotoController {
         return ResponseEntity.ok(pilotoService.findById(id));
     }
 
+    @GetMapping("/{id}/estatisticas")
+    @Operation(summary = "Estatísticas do piloto",
+            description = "Retorna pódios e vitórias, pódios por posição, corridas com pódio por país, a distância " +
+                    "somada das pistas desses pódios e o confronto com os companheiros de equipe nas corridas " +
+                    "em que os dois foram ao pódio.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas calculadas", content = @Content(
+                    schema = @Schema(implementation = EstatisticasPilotoResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Piloto não encontrado")
+    })
+    public ResponseEntity<EstatisticasPilotoResponseDTO> estatisticas(
+            @Parameter(description = "ID único do piloto", required = true)
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(estatisticasPilotoService.estatisticas(id));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar piloto",
             description = "Atualiza os dados de um piloto existente pelo seu ID.")
@@ -100,6 +174,37 @@ public class PilotoController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(params = "ids")
+    @Operation(summary = "Excluir pilotos por vários IDs",
+            description = "Remove os pilotos informados com um DELETE por bloco de IDs; IDs inexistentes são " +
+                    "ignorados e a resposta traz quantos foram removidos. Para listas longas, use POST " +
+                    "/pilotos/delete.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pilotos removidos, com as contagens"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<ExclusaoResponseDTO> deleteAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(pilotoService.deleteAllById(ids));
+    }
+
+    @PostMapping("/delete")
+    @Operation(summary = "Excluir pilotos por vários IDs (lote)",
+            description = "Igual a DELETE /pilotos?ids=..., com os IDs no corpo: até 10.000 por requisição.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pilotos removidos, com as contagens"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<ExclusaoResponseDTO> deleteLote(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs dos pilotos",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(pilotoService.deleteAllById(ids));
+    }
+
     // 🔎 Consulta customizada
     @GetMapping("/buscar/equipe")
     @Operation(summary = "Buscar pilotos por equipe",
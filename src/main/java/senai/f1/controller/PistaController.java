@@ -12,6 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
 import senai.f1.dtos.response.PistaResponseDTO;
 import senai.f1.enums.Dificuldade;
 import senai.f1.service.PistaService;
@@ -19,7 +22,7 @@ import senai.f1.service.PistaService;
 import java.util.List;
 import java.util.UUID;
 
-@CrossOrigin(origins = "*")
+@CrossOrigin(originPatterns = "*")
 @RestController
 @RequestMapping("/pistas")
 @RequiredArgsConstructor
@@ -46,12 +49,64 @@ public class PistaController {
         return ResponseEntity.ok(pistaService.create(dto));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Importar pistas em lote",
+            description = "Cadastra até 10.000 pistas em uma única requisição. Registros inválidos não " +
+                    "impedem a importação dos demais e são devolvidos na lista de erros com o seu índice.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(schema = @Schema(implementation = ImportacaoResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    public ResponseEntity<ImportacaoResponseDTO> importar(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Lista de pistas a serem cadastradas",
+                    required = true
+            )
+            @RequestBody List<PistaRequestDTO> dtos) {
+        return ResponseEntity.ok(pistaService.importar(dtos));
+    }
+
     @GetMapping
     @Operation(summary = "Listar todas as pistas",
-            description = "Retorna a lista completa de pistas cadastradas.")
+            description = "Retorna as pistas cadastradas em páginas ordenadas por ID. O link para a próxima página vem no cabeçalho Link.")
     @ApiResponse(responseCode = "200", description = "Lista de pistas retornada com sucesso")
-    public ResponseEntity<List<PistaResponseDTO>> listAll() {
-        return ResponseEntity.ok(pistaService.listAll());
+    public ResponseEntity<List<PistaResponseDTO>> listAll(
+            @Parameter(description = "Quantidade máxima de itens por página (padrão 50, máximo 100)")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Token de continuação retornado no link \"next\" da página anterior")
+            @RequestParam(required = false) String cursor) {
+        return PageLinks.ok(pistaService.listAll(limit, cursor));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar pistas por vários IDs",
+            description = "Retorna uma entrada por ID, na ordem pedida; IDs inexistentes vêm com encontrado=false. " +
+                    "Para listas longas, use POST /pistas/lookup.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<List<ItemPorIdDTO<PistaResponseDTO>>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(pistaService.findAllById(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Buscar pistas por vários IDs (lote)",
+            description = "Igual a GET /pistas?ids=..., com os IDs no corpo: até 10.000 por requisição.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entradas na ordem dos IDs pedidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<List<ItemPorIdDTO<PistaResponseDTO>>> lookup(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs das pistas",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(pistaService.findAllById(ids));
     }
 
     @GetMapping("/{id}")
@@ -101,6 +156,37 @@ public class PistaController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(params = "ids")
+    @Operation(summary = "Excluir pistas por vários IDs",
+            description = "Remove as pistas informadas com um DELETE por bloco de IDs; IDs inexistentes são " +
+                    "ignorados e a resposta traz quantas foram removidas. Para listas longas, use POST " +
+                    "/pistas/delete.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pistas removidas, com as contagens"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<ExclusaoResponseDTO> deleteAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(pistaService.deleteAllById(ids));
+    }
+
+    @PostMapping("/delete")
+    @Operation(summary = "Excluir pistas por vários IDs (lote)",
+            description = "Igual a DELETE /pistas?ids=..., com os IDs no corpo: até 10.000 por requisição.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pistas removidas, com as contagens"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ID ou acima do limite")
+    })
+    public ResponseEntity<ExclusaoResponseDTO> deleteLote(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs das pistas",
+                    required = true
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(pistaService.deleteAllById(ids));
+    }
+
     // 🔎 Consultas customizadas
     @GetMapping("/buscar/pais")
     @Operation(summary = "Buscar pistas por país",
@@ -0,0 +1,23 @@
+package senai.f1.dtos.projection;
+
+import senai.f1.enums.Dificuldade;
+
+import java.util.UUID;
+
+public record CampeonatoCorridaRow(UUID campeonatoId, UUID corridaId, UUID pistaId, UUID paisId, String paisNome,
+                                   Double distancia, Dificuldade dificuldade) {
+
+    // Corrida só com o id (corridas não expandidas)
+    public CampeonatoCorridaRow(UUID campeonatoId, UUID corridaId) {
+        this(campeonatoId, corridaId, null, null, null, null, null);
+    }
+
+    // Corrida expandida com a pista só com o id
+    public CampeonatoCorridaRow(UUID campeonatoId, UUID corridaId, UUID pistaId) {
+        this(campeonatoId, corridaId, pistaId, null, null, null, null);
+    }
+
+    public CorridaRow corrida() {
+        return new CorridaRow(corridaId, pistaId, paisId, paisNome, distancia, dificuldade);
+    }
+}
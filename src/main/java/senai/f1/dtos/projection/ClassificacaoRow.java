@@ -0,0 +1,5 @@
+package senai.f1.dtos.projection;
+
+import java.util.UUID;
+
+public record ClassificacaoRow(UUID pilotoId, String nome, String equipe, int pontos, int vitorias, int podios) { }
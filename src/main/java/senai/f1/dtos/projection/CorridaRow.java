@@ -0,0 +1,18 @@
+package senai.f1.dtos.projection;
+
+import senai.f1.enums.Dificuldade;
+
+import java.util.UUID;
+
+public record CorridaRow(UUID id, UUID pistaId, UUID paisId, String paisNome, Double distancia,
+                         Dificuldade dificuldade) {
+
+    // Só a referência à pista (a FK da corrida), quando a pista não é expandida
+    public CorridaRow(UUID id, UUID pistaId) {
+        this(id, pistaId, null, null, null, null);
+    }
+
+    public PistaRow pista() {
+        return new PistaRow(pistaId, paisId, paisNome, distancia, dificuldade);
+    }
+}
@@ -0,0 +1,16 @@
+package senai.f1.dtos.projection;
+
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.PilotoNoPodio;
+
+import java.util.List;
+import java.util.UUID;
+
+// Uma linha de corrida_view: a corrida inteira, com o pódio em ordem
+public record CorridaViewRow(UUID id, UUID pistaId, UUID paisId, String paisNome, Double distancia,
+                             Dificuldade dificuldade, List<PilotoNoPodio> podio) {
+
+    public CorridaRow corrida() {
+        return new CorridaRow(id, pistaId, paisId, paisNome, distancia, dificuldade);
+    }
+}
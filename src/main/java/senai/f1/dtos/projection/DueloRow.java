@@ -0,0 +1,6 @@
+package senai.f1.dtos.projection;
+
+import java.util.UUID;
+
+// Corridas em que o piloto e um companheiro de equipe subiram juntos ao pódio, por quem chegou na frente
+public record DueloRow(UUID companheiroId, String nome, Long aFrente, Long atras) { }
@@ -0,0 +1,7 @@
+package senai.f1.dtos.projection;
+
+import senai.f1.enums.Dificuldade;
+
+import java.util.UUID;
+
+public record PistaRow(UUID id, UUID paisId, String paisNome, Double distancia, Dificuldade dificuldade) { }
@@ -0,0 +1,11 @@
+package senai.f1.dtos.projection;
+
+import java.util.UUID;
+
+public record PodioRow(UUID corridaId, UUID pilotoId, String nome, String equipe) {
+
+    // Só o id do piloto, quando o pódio não é expandido
+    public PodioRow(UUID corridaId, UUID pilotoId) {
+        this(corridaId, pilotoId, null, null);
+    }
+}
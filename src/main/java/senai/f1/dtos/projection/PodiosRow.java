@@ -0,0 +1,19 @@
+package senai.f1.dtos.projection;
+
+import senai.f1.enums.Dificuldade;
+
+import java.util.UUID;
+
+// Pódios e vitórias de uma equipe agrupados por campeonato, por dificuldade da pista ou por país
+public record PodiosRow(UUID id, String nome, Long podios, Long vitorias) {
+
+    // Por campeonato: só o id
+    public PodiosRow(UUID id, Long podios, Long vitorias) {
+        this(id, null, podios, vitorias);
+    }
+
+    // Por dificuldade: o nome da dificuldade, sem id
+    public PodiosRow(Dificuldade dificuldade, Long podios, Long vitorias) {
+        this(null, dificuldade == null ? null : dificuldade.name(), podios, vitorias);
+    }
+}
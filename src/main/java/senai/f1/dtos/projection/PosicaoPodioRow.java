@@ -0,0 +1,4 @@
+package senai.f1.dtos.projection;
+
+// Pódios de um piloto em uma posição (0 = vencedor) e a distância somada das pistas dessas corridas
+public record PosicaoPodioRow(Integer posicao, Long podios, Double distancia) { }
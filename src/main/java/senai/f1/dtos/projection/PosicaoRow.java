@@ -0,0 +1,6 @@
+package senai.f1.dtos.projection;
+
+import java.util.UUID;
+
+// Uma posição de pódio de uma corrida dentro de um campeonato; corrida sem pódio vem com piloto e posição nulos
+public record PosicaoRow(UUID campeonatoId, UUID pilotoId, Integer posicao) { }
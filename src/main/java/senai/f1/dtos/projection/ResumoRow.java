@@ -0,0 +1,6 @@
+package senai.f1.dtos.projection;
+
+import java.util.UUID;
+
+// Agregado de um campeonato: corridas, países distintos das pistas e soma das distâncias
+public record ResumoRow(UUID campeonatoId, Long corridas, Long paises, Double distanciaTotal) { }
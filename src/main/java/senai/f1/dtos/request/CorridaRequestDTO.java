@@ -1,6 +1,20 @@
 package senai.f1.dtos.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
 import java.util.List;
 import java.util.UUID;
 
-public record CorridaRequestDTO(UUID pistaId, List<UUID> podioIds) { }
\ No newline at end of file
+public record CorridaRequestDTO(
+        @NotNull(message = "Pista obrigatória") UUID pistaId,
+        @NotNull(message = "Pódio obrigatório") List<UUID> podioIds) {
+
+    // Um piloto ocupa uma posição só
+    @JsonIgnore
+    @AssertTrue(message = "Piloto repetido no pódio")
+    public boolean isPodioSemRepeticao() {
+        return podioIds == null || podioIds.stream().distinct().count() == podioIds.size();
+    }
+}
@@ -0,0 +1,62 @@
+package senai.f1.dtos.request;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Parâmetros fields= e expand= de um GET. "campos" escolhe o que sai na resposta (vazio = tudo; o id sai
+// sempre) e "expandir" quais associações vêm completas; as demais saem só com o id. Caminhos aninhados
+// usam ponto (pista.pais, corridas.podio) e "*" expande tudo.
+public record Expansao(Set<String> campos, Set<String> expandir) {
+
+    public static final String TUDO = "*";
+
+    // Resposta completa, como antes dos parâmetros (escritas, exportação, benchmarks)
+    public static final Expansao COMPLETA = new Expansao(Set.of(), Set.of(TUDO));
+
+    public static Expansao de(String fields, String expand) {
+        return new Expansao(caminhos(fields), caminhos(expand));
+    }
+
+    public boolean inclui(String campo) {
+        return campos.isEmpty() || campos.contains(campo) || temAbaixo(campos, campo);
+    }
+
+    // Campo listado em fields (ele ou algo abaixo dele), para o que só sai na resposta quando pedido
+    public boolean pede(String campo) {
+        return campos.contains(campo) || temAbaixo(campos, campo);
+    }
+
+    // Expandir um caminho aninhado expande também os de cima: corridas.pista expande corridas
+    public boolean expande(String campo) {
+        return expandir.contains(TUDO) || expandir.contains(campo) || temAbaixo(expandir, campo);
+    }
+
+    // Os mesmos parâmetros vistos de dentro de uma associação: "corridas.pista" vira "pista"
+    public Expansao filho(String campo) {
+        Set<String> camposFilho = campos.contains(campo) ? Set.of() : abaixo(campos, campo);
+        Set<String> expandirFilho = expandir.contains(TUDO) ? expandir : abaixo(expandir, campo);
+        return new Expansao(camposFilho, expandirFilho);
+    }
+
+    private static Set<String> caminhos(String parametro) {
+        if (parametro == null) {
+            return Set.of();
+        }
+        return Arrays.stream(parametro.split(","))
+                .map(String::trim)
+                .filter(c -> !c.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static boolean temAbaixo(Set<String> caminhos, String campo) {
+        return caminhos.stream().anyMatch(c -> c.startsWith(campo + "."));
+    }
+
+    private static Set<String> abaixo(Set<String> caminhos, String campo) {
+        return caminhos.stream()
+                .filter(c -> c.startsWith(campo + "."))
+                .map(c -> c.substring(campo.length() + 1))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -1,3 +1,7 @@
 package senai.f1.dtos.request;
 
-public record PilotoRequestDTO(String nome, String equipe) { }
\ No newline at end of file
+import jakarta.validation.constraints.NotBlank;
+
+public record PilotoRequestDTO(
+        @NotBlank(message = "Nome do piloto obrigatório") String nome,
+        @NotBlank(message = "Equipe obrigatória") String equipe) { }
@@ -1,5 +1,12 @@
 package senai.f1.dtos.request;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
 import java.util.UUID;
 
-public record PistaRequestDTO(UUID paisId, Double distancia, String dificuldade) { }
\ No newline at end of file
+public record PistaRequestDTO(
+        @NotNull(message = "País obrigatório") UUID paisId,
+        @NotNull(message = "Distância obrigatória") @Positive(message = "Distância deve ser positiva") Double distancia,
+        @NotBlank(message = "Dificuldade obrigatória") String dificuldade) { }
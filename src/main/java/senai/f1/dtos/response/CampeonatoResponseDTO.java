@@ -1,6 +1,10 @@
 package senai.f1.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.UUID;
 
-public record CampeonatoResponseDTO(UUID id, List<CorridaResponseDTO> corridas) { }
+// Por padrão só o resumo; as corridas saem quando pedidas em fields ou expand (ou em GET /campeonatos/{id}/corridas)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CampeonatoResponseDTO(UUID id, ResumoTemporadaDTO resumo, List<CorridaResponseDTO> corridas) { }
@@ -0,0 +1,4 @@
+package senai.f1.dtos.response;
+
+public record ClassificacaoResponseDTO(int posicao, PilotoResponseDTO piloto, int pontos, int vitorias,
+                                       int podios) { }
@@ -1,6 +1,11 @@
 package senai.f1.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.UUID;
 
+// Campos nulos ficam de fora: é assim que somem os campos cortados por fields= e que as associações não
+// expandidas saem só com o id
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record CorridaResponseDTO(UUID id, PistaResponseDTO pista, List<PilotoResponseDTO> podio) { }
\ No newline at end of file
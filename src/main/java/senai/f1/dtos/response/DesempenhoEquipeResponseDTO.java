@@ -0,0 +1,6 @@
+package senai.f1.dtos.response;
+
+import java.util.List;
+
+public record DesempenhoEquipeResponseDTO(String equipe, long podios, long vitorias, List<PodiosDTO> campeonatos,
+                                          List<PodiosDTO> dificuldades, List<PodiosDTO> paises) { }
@@ -0,0 +1,6 @@
+package senai.f1.dtos.response;
+
+import java.util.UUID;
+
+// Confronto direto com um companheiro de equipe nas corridas em que os dois foram ao pódio
+public record DueloDTO(UUID id, String nome, long aFrente, long atras) { }
@@ -0,0 +1,8 @@
+package senai.f1.dtos.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record EstatisticasPilotoResponseDTO(UUID id, String nome, String equipe, long podios, long vitorias,
+                                            double distanciaPodios, List<PosicaoDTO> posicoes,
+                                            List<PodiosDTO> paises, List<DueloDTO> companheiros) { }
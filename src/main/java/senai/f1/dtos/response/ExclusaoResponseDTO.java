@@ -0,0 +1,4 @@
+package senai.f1.dtos.response;
+
+// Resultado de uma exclusão em lote: ids distintos recebidos e quantos deles existiam e foram removidos
+public record ExclusaoResponseDTO(int recebidos, int removidos) { }
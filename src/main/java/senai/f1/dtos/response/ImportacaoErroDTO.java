@@ -0,0 +1,3 @@
+package senai.f1.dtos.response;
+
+public record ImportacaoErroDTO(int indice, String mensagem) { }
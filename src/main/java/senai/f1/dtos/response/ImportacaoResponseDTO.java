@@ -0,0 +1,5 @@
+package senai.f1.dtos.response;
+
+import java.util.List;
+
+public record ImportacaoResponseDTO(int recebidos, int importados, List<ImportacaoErroDTO> erros) { }
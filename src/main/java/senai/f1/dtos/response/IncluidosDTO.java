@@ -0,0 +1,7 @@
+package senai.f1.dtos.response;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record IncluidosDTO(Map<UUID, PilotoResponseDTO> pilotos, Map<UUID, PistaResponseDTO> pistas,
+                           Map<UUID, PaisResponseDTO> paises) { }
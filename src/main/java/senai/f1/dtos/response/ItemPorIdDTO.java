@@ -0,0 +1,9 @@
+package senai.f1.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+// Uma entrada da busca por vários ids, na posição do id pedido; id inexistente vem com encontrado=false e sem item
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ItemPorIdDTO<T>(UUID id, boolean encontrado, T item) { }
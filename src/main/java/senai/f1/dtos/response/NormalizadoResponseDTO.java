@@ -0,0 +1,5 @@
+package senai.f1.dtos.response;
+
+// Resposta normalizada: "data" é a resposta de sempre (um item ou uma lista) só com referências, e cada
+// piloto, pista e país expandido aparece uma vez em "included"
+public record NormalizadoResponseDTO<T>(T data, IncluidosDTO included) { }
@@ -1,5 +1,8 @@
 package senai.f1.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.UUID;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PilotoResponseDTO(UUID id, String nome, String equipe) { }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package senai.f1.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+// Um grupo do desempenho de uma equipe: campeonato (id), dificuldade (nome) ou país (id e nome)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PodiosDTO(UUID id, String nome, long podios, long vitorias) { }
@@ -0,0 +1,4 @@
+package senai.f1.dtos.response;
+
+// Pódios em uma posição; a posição começa em 1 (vencedor)
+public record PosicaoDTO(int posicao, long podios) { }
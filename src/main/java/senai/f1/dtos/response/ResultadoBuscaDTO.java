@@ -0,0 +1,7 @@
+package senai.f1.dtos.response;
+
+import java.util.UUID;
+
+// Um registro encontrado pela busca (GET /buscar): tipo (pais, piloto ou pista), o texto e o campo que casaram
+// com a consulta e a relevância usada na ordenação
+public record ResultadoBuscaDTO(String tipo, UUID id, String texto, String campo, double relevancia) { }
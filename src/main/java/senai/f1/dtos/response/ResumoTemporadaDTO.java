@@ -0,0 +1,4 @@
+package senai.f1.dtos.response;
+
+// Resumo de um campeonato: quantidade de corridas, de países visitados e a distância somada das pistas
+public record ResumoTemporadaDTO(long corridas, long paises, double distanciaTotal) { }
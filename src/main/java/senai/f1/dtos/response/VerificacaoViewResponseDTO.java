@@ -0,0 +1,5 @@
+package senai.f1.dtos.response;
+
+// Resultado da verificação de corrida_view: corridas conferidas, linhas recriadas ou corrigidas e linhas de
+// corridas que não existem mais
+public record VerificacaoViewResponseDTO(long verificadas, long corrigidas, long removidas) { }
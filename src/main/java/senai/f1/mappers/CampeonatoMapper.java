@@ -1,21 +1,106 @@
 package senai.f1.mappers;
 
+import senai.f1.dtos.projection.CampeonatoCorridaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.projection.ResumoRow;
 import senai.f1.dtos.request.CampeonatoRequestDTO;
+import senai.f1.dtos.request.Expansao;
 import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.ResumoTemporadaDTO;
 import senai.f1.model.Campeonato;
 import senai.f1.model.Corrida;
+import senai.f1.model.Pais;
+import senai.f1.model.Pista;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 public class CampeonatoMapper {
 
     public static CampeonatoResponseDTO toDTO(Campeonato entity) {
         return new CampeonatoResponseDTO(
                 entity.getId(),
+                resumo(entity.getCorridas()),
                 entity.getCorridas().stream().map(CorridaMapper::toDTO).toList()
         );
     }
 
+    public static CampeonatoResponseDTO toDTO(Campeonato entity, Expansao expansao) {
+        ResumoTemporadaDTO resumo = expansao.inclui("resumo") ? resumo(entity.getCorridas()) : null;
+        if (!comCorridas(expansao)) {
+            return new CampeonatoResponseDTO(entity.getId(), resumo, null);
+        }
+        Expansao corridas = expansao.filho("corridas");
+        return new CampeonatoResponseDTO(
+                entity.getId(),
+                resumo,
+                entity.getCorridas().stream()
+                        .map(c -> expansao.expande("corridas")
+                                ? CorridaMapper.toDTO(c, corridas)
+                                : CorridaMapper.referencia(c.getId()))
+                        .toList()
+        );
+    }
+
+    // Só o resumo agregado, sem as corridas
+    public static CampeonatoResponseDTO toDTO(ResumoRow row, Expansao expansao) {
+        return new CampeonatoResponseDTO(row.campeonatoId(), expansao.inclui("resumo") ? resumo(row) : null, null);
+    }
+
+    public static List<CampeonatoResponseDTO> toDTOs(List<UUID> ids, List<CampeonatoCorridaRow> corridas,
+                                                     List<PodioRow> podios) {
+        return toDTOs(ids, Map.of(), corridas, podios, Expansao.COMPLETA);
+    }
+
+    // Monta os campeonatos na ordem de "ids" a partir dos resumos e das projeções de corridas e pódios; corridas
+    // não expandidas saem só com o id
+    public static List<CampeonatoResponseDTO> toDTOs(List<UUID> ids, Map<UUID, ResumoTemporadaDTO> resumos,
+                                                     List<CampeonatoCorridaRow> corridas, List<PodioRow> podios,
+                                                     Expansao expansao) {
+        if (!comCorridas(expansao)) {
+            return ids.stream().map(id -> new CampeonatoResponseDTO(id, resumos.get(id), null)).toList();
+        }
+        Map<UUID, CorridaResponseDTO> porId = expansao.expande("corridas")
+                ? CorridaMapper.toDTOs(corridas.stream().map(CampeonatoCorridaRow::corrida).toList(), podios,
+                        expansao.filho("corridas")).stream()
+                        .collect(toMap(CorridaResponseDTO::id, c -> c, (a, b) -> a))
+                : corridas.stream()
+                        .collect(toMap(CampeonatoCorridaRow::corridaId, c -> CorridaMapper.referencia(c.corridaId()),
+                                (a, b) -> a));
+        Map<UUID, List<CorridaResponseDTO>> porCampeonato = corridas.stream()
+                .collect(groupingBy(CampeonatoCorridaRow::campeonatoId,
+                        mapping(c -> porId.get(c.corridaId()), toList())));
+        return ids.stream()
+                .map(id -> new CampeonatoResponseDTO(id, resumos.get(id), porCampeonato.getOrDefault(id, List.of())))
+                .toList();
+    }
+
+    // As corridas são pesadas (cada uma com pista e pódio): só saem quando pedidas em fields ou expand
+    public static boolean comCorridas(Expansao expansao) {
+        return expansao.pede("corridas") || expansao.expande("corridas");
+    }
+
+    public static ResumoTemporadaDTO resumo(ResumoRow row) {
+        return new ResumoTemporadaDTO(row.corridas(), row.paises(), row.distanciaTotal());
+    }
+
+    // Resumo das corridas já carregadas (escritas e multi-get com as corridas na resposta)
+    public static ResumoTemporadaDTO resumo(List<Corrida> corridas) {
+        List<Pista> pistas = corridas.stream().map(Corrida::getPista).filter(Objects::nonNull).toList();
+        long paises = pistas.stream().map(Pista::getPais).filter(Objects::nonNull).map(Pais::getId).distinct().count();
+        double distancia = pistas.stream().map(Pista::getDistancia).filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue).sum();
+        return new ResumoTemporadaDTO(corridas.size(), paises, distancia);
+    }
+
     public static Campeonato toEntity(CampeonatoRequestDTO dto, List<Corrida> corridas) {
         Campeonato c = new Campeonato();
         c.setCorridas(corridas);
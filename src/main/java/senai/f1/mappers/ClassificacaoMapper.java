@@ -0,0 +1,28 @@
+package senai.f1.mappers;
+
+import senai.f1.dtos.projection.ClassificacaoRow;
+import senai.f1.dtos.response.ClassificacaoResponseDTO;
+import senai.f1.dtos.response.PilotoResponseDTO;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class ClassificacaoMapper {
+
+    // As linhas já chegam ordenadas; a posição é o índice na lista
+    public static List<ClassificacaoResponseDTO> toDTOs(List<ClassificacaoRow> rows) {
+        return IntStream.range(0, rows.size())
+                .mapToObj(i -> toDTO(i + 1, rows.get(i)))
+                .toList();
+    }
+
+    public static ClassificacaoResponseDTO toDTO(int posicao, ClassificacaoRow row) {
+        return new ClassificacaoResponseDTO(
+                posicao,
+                new PilotoResponseDTO(row.pilotoId(), row.nome(), row.equipe()),
+                row.pontos(),
+                row.vitorias(),
+                row.podios()
+        );
+    }
+}
@@ -1,12 +1,24 @@
 package senai.f1.mappers;
 
+import senai.f1.dtos.projection.CorridaRow;
+import senai.f1.dtos.projection.CorridaViewRow;
+import senai.f1.dtos.projection.PodioRow;
 import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.dtos.request.Expansao;
 import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.PilotoResponseDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
 import senai.f1.model.Corrida;
 import senai.f1.model.Piloto;
 import senai.f1.model.Pista;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 
 public class CorridaMapper {
 
@@ -18,6 +30,59 @@ public class CorridaMapper {
         );
     }
 
+    // Pista já conhecida (cache), sem tocar na associação da entidade
+    public static CorridaResponseDTO toDTO(Corrida entity, PistaResponseDTO pista) {
+        return new CorridaResponseDTO(
+                entity.getId(),
+                pista,
+                entity.getPodio().stream().map(PilotoMapper::toDTO).toList()
+        );
+    }
+
+    // Entidade com pista, país e pódio já carregados, no formato pedido por fields/expand
+    public static CorridaResponseDTO toDTO(Corrida entity, Expansao expansao) {
+        Pista pista = entity.getPista();
+        CorridaRow row = new CorridaRow(entity.getId(), pista.getId(), pista.getPais().getId(),
+                pista.getPais().getNome(), pista.getDistancia(), pista.getDificuldade());
+        List<PilotoResponseDTO> podio = !expansao.inclui("podio") ? null : entity.getPodio().stream()
+                .map(p -> expansao.expande("podio") ? PilotoMapper.toDTO(p) : PilotoMapper.referencia(p.getId()))
+                .toList();
+        return toDTO(row, podio, expansao);
+    }
+
+    // Linha de corrida_view: o pódio já vem junto, completo ou reduzido ao id conforme expand
+    public static CorridaResponseDTO toDTO(CorridaViewRow row, Expansao expansao) {
+        List<PilotoResponseDTO> podio = !expansao.inclui("podio") ? null : row.podio().stream()
+                .map(p -> expansao.expande("podio") ? PilotoMapper.toDTO(p) : PilotoMapper.referencia(p.id()))
+                .toList();
+        return toDTO(row.corrida(), podio, expansao);
+    }
+
+    // Pista fora de "fields" sai nula; não expandida, só com o id. O pódio já vem no nível pedido.
+    public static CorridaResponseDTO toDTO(CorridaRow row, List<PilotoResponseDTO> podio, Expansao expansao) {
+        return new CorridaResponseDTO(
+                row.id(),
+                !expansao.inclui("pista") ? null
+                        : expansao.expande("pista") ? PistaMapper.toDTO(row.pista(), expansao.filho("pista"))
+                        : PistaMapper.referencia(row.pistaId()),
+                expansao.inclui("podio") ? podio : null
+        );
+    }
+
+    public static CorridaResponseDTO referencia(UUID id) {
+        return new CorridaResponseDTO(id, null, null);
+    }
+
+    // Junta as linhas de corrida com as linhas de pódio vindas de uma segunda consulta
+    public static List<CorridaResponseDTO> toDTOs(List<CorridaRow> corridas, List<PodioRow> podios,
+                                                  Expansao expansao) {
+        Map<UUID, List<PilotoResponseDTO>> porCorrida = podios.stream()
+                .collect(groupingBy(PodioRow::corridaId, mapping(PilotoMapper::toDTO, toList())));
+        return corridas.stream()
+                .map(c -> toDTO(c, porCorrida.getOrDefault(c.id(), List.of()), expansao))
+                .toList();
+    }
+
     public static Corrida toEntity(CorridaRequestDTO dto, Pista pista, List<Piloto> pilotos) {
         Corrida c = new Corrida();
         c.setPista(pista);
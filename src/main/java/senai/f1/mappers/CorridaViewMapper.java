@@ -0,0 +1,83 @@
+package senai.f1.mappers;
+
+import senai.f1.dtos.projection.PistaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.response.PistaResponseDTO;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Corrida;
+import senai.f1.model.CorridaView;
+import senai.f1.model.Normalizador;
+import senai.f1.model.Piloto;
+import senai.f1.model.PilotoNoPodio;
+import senai.f1.model.Pista;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public class CorridaViewMapper {
+
+    public static CorridaView toView(UUID corridaId, PistaRow pista, List<PilotoNoPodio> podio) {
+        CorridaView view = new CorridaView();
+        view.setId(corridaId);
+        preencher(view, pista, podio);
+        return view;
+    }
+
+    // Corrida com pista, país e pódio carregados
+    public static CorridaView toView(Corrida corrida) {
+        return toView(corrida.getId(), pista(corrida.getPista()), podio(corrida.getPodio()));
+    }
+
+    // Troca o conteúdo só quando algo mudou, para a versão (ETag) não subir à toa
+    public static boolean atualizar(CorridaView view, PistaRow pista, List<PilotoNoPodio> podio) {
+        if (mesmoConteudo(view, pista, podio)) {
+            return false;
+        }
+        preencher(view, pista, podio);
+        return true;
+    }
+
+    public static boolean mesmoConteudo(CorridaView view, PistaRow pista, List<PilotoNoPodio> podio) {
+        return Objects.equals(view.getPistaId(), pista.id())
+                && Objects.equals(view.getDistancia(), pista.distancia())
+                && view.getDificuldade() == pista.dificuldade()
+                && Objects.equals(view.getPaisId(), pista.paisId())
+                && Objects.equals(view.getPaisNome(), pista.paisNome())
+                && Objects.equals(view.getPodio(), podio);
+    }
+
+    // Pista vinda do cache (ReferenciaService)
+    public static PistaRow pista(PistaResponseDTO dto) {
+        return new PistaRow(dto.id(), dto.pais().id(), dto.pais().nome(), dto.distancia(),
+                Dificuldade.valueOf(dto.dificuldade()));
+    }
+
+    // Pista com o país já carregado
+    public static PistaRow pista(Pista entity) {
+        return new PistaRow(entity.getId(), entity.getPais().getId(), entity.getPais().getNome(),
+                entity.getDistancia(), entity.getDificuldade());
+    }
+
+    public static PilotoNoPodio piloto(Piloto entity) {
+        return new PilotoNoPodio(entity.getId(), entity.getNome(), entity.getEquipe());
+    }
+
+    public static PilotoNoPodio piloto(PodioRow row) {
+        return new PilotoNoPodio(row.pilotoId(), row.nome(), row.equipe());
+    }
+
+    public static List<PilotoNoPodio> podio(List<Piloto> pilotos) {
+        return pilotos.stream().map(CorridaViewMapper::piloto).toList();
+    }
+
+    private static void preencher(CorridaView view, PistaRow pista, List<PilotoNoPodio> podio) {
+        view.setPistaId(pista.id());
+        view.setDistancia(pista.distancia());
+        view.setDificuldade(pista.dificuldade());
+        view.setPaisId(pista.paisId());
+        view.setPaisNome(pista.paisNome());
+        view.setPaisNomeNormalizado(Normalizador.normalizar(pista.paisNome()));
+        view.setPodio(podio);
+    }
+}
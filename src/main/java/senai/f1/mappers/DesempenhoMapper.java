@@ -0,0 +1,29 @@
+package senai.f1.mappers;
+
+import senai.f1.dtos.projection.PodiosRow;
+import senai.f1.dtos.response.DesempenhoEquipeResponseDTO;
+import senai.f1.dtos.response.PodiosDTO;
+
+import java.util.List;
+
+public class DesempenhoMapper {
+
+    // Todo pódio com pista cai em exatamente uma dificuldade, então os totais saem da soma desses grupos
+    public static DesempenhoEquipeResponseDTO toDTO(String equipe, List<PodiosRow> campeonatos,
+                                                    List<PodiosRow> dificuldades, List<PodiosRow> paises) {
+        return new DesempenhoEquipeResponseDTO(
+                equipe,
+                dificuldades.stream().mapToLong(PodiosRow::podios).sum(),
+                dificuldades.stream().mapToLong(PodiosRow::vitorias).sum(),
+                toDTOs(campeonatos),
+                toDTOs(dificuldades),
+                toDTOs(paises)
+        );
+    }
+
+    public static List<PodiosDTO> toDTOs(List<PodiosRow> rows) {
+        return rows.stream()
+                .map(r -> new PodiosDTO(r.id(), r.nome(), r.podios(), r.vitorias()))
+                .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package senai.f1.mappers;
+
+import senai.f1.dtos.projection.DueloRow;
+import senai.f1.dtos.projection.PodiosRow;
+import senai.f1.dtos.projection.PosicaoPodioRow;
+import senai.f1.dtos.response.DueloDTO;
+import senai.f1.dtos.response.EstatisticasPilotoResponseDTO;
+import senai.f1.dtos.response.PosicaoDTO;
+import senai.f1.model.Piloto;
+
+import java.util.List;
+
+public class EstatisticasPilotoMapper {
+
+    // Cada corrida entra em uma única posição do piloto, então totais e distância saem da soma das posições
+    public static EstatisticasPilotoResponseDTO toDTO(Piloto piloto, List<PosicaoPodioRow> posicoes,
+                                                      List<PodiosRow> paises, List<DueloRow> duelos) {
+        return new EstatisticasPilotoResponseDTO(
+                piloto.getId(),
+                piloto.getNome(),
+                piloto.getEquipe(),
+                posicoes.stream().mapToLong(PosicaoPodioRow::podios).sum(),
+                posicoes.stream().filter(p -> p.posicao() == 0).mapToLong(PosicaoPodioRow::podios).sum(),
+                posicoes.stream().mapToDouble(PosicaoPodioRow::distancia).sum(),
+                posicoes.stream().map(p -> new PosicaoDTO(p.posicao() + 1, p.podios())).toList(),
+                DesempenhoMapper.toDTOs(paises),
+                duelos.stream().map(d -> new DueloDTO(d.companheiroId(), d.nome(), d.aFrente(), d.atras())).toList()
+        );
+    }
+}
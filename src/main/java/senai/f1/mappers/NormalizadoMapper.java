@@ -0,0 +1,94 @@
+package senai.f1.mappers;
+
+import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.IncluidosDTO;
+import senai.f1.dtos.response.NormalizadoResponseDTO;
+import senai.f1.dtos.response.PaisResponseDTO;
+import senai.f1.dtos.response.PilotoResponseDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Normaliza corridas e campeonatos em uma passada: cada piloto, pista e país expandido entra uma vez em
+// "included" e no lugar dele fica só a referência. Referências que já vieram só com o id (sem expand)
+// continuam como estão e não entram em "included".
+public class NormalizadoMapper {
+
+    private final Map<UUID, PilotoResponseDTO> pilotos = new LinkedHashMap<>();
+    private final Map<UUID, PistaResponseDTO> pistas = new LinkedHashMap<>();
+    private final Map<UUID, PaisResponseDTO> paises = new LinkedHashMap<>();
+
+    private NormalizadoMapper() { }
+
+    public static boolean normalizavel(Class<?> tipo) {
+        return tipo == CorridaResponseDTO.class || tipo == CampeonatoResponseDTO.class;
+    }
+
+    // Um item ou uma lista de itens normalizáveis
+    public static NormalizadoResponseDTO<Object> toDTO(Object resposta) {
+        NormalizadoMapper mapper = new NormalizadoMapper();
+        Object data = resposta instanceof List<?> itens
+                ? itens.stream().map(mapper::item).toList()
+                : mapper.item(resposta);
+        return new NormalizadoResponseDTO<>(data, new IncluidosDTO(mapper.pilotos, mapper.pistas, mapper.paises));
+    }
+
+    private Object item(Object item) {
+        return switch (item) {
+            case CorridaResponseDTO corrida -> corrida(corrida);
+            case CampeonatoResponseDTO campeonato -> campeonato(campeonato);
+            default -> item;
+        };
+    }
+
+    private CampeonatoResponseDTO campeonato(CampeonatoResponseDTO campeonato) {
+        if (campeonato.corridas() == null) {
+            return campeonato;
+        }
+        return new CampeonatoResponseDTO(campeonato.id(), campeonato.resumo(),
+                campeonato.corridas().stream().map(this::corrida).toList());
+    }
+
+    private CorridaResponseDTO corrida(CorridaResponseDTO corrida) {
+        return new CorridaResponseDTO(
+                corrida.id(),
+                pista(corrida.pista()),
+                corrida.podio() == null ? null : corrida.podio().stream().map(this::piloto).toList()
+        );
+    }
+
+    private PistaResponseDTO pista(PistaResponseDTO pista) {
+        if (pista == null) {
+            return null;
+        }
+        PistaResponseDTO referencia = PistaMapper.referencia(pista.id());
+        if (!pista.equals(referencia) && !pistas.containsKey(pista.id())) {
+            pistas.put(pista.id(), new PistaResponseDTO(pista.id(), pais(pista.pais()), pista.distancia(),
+                    pista.dificuldade()));
+        }
+        return referencia;
+    }
+
+    private PaisResponseDTO pais(PaisResponseDTO pais) {
+        if (pais == null) {
+            return null;
+        }
+        PaisResponseDTO referencia = PaisMapper.referencia(pais.id());
+        if (!pais.equals(referencia)) {
+            paises.putIfAbsent(pais.id(), pais);
+        }
+        return referencia;
+    }
+
+    private PilotoResponseDTO piloto(PilotoResponseDTO piloto) {
+        PilotoResponseDTO referencia = PilotoMapper.referencia(piloto.id());
+        if (!piloto.equals(referencia)) {
+            pilotos.putIfAbsent(piloto.id(), piloto);
+        }
+        return referencia;
+    }
+}
@@ -4,12 +4,18 @@ import senai.f1.dtos.request.PaisRequestDTO;
 import senai.f1.dtos.response.PaisResponseDTO;
 import senai.f1.model.Pais;
 
+import java.util.UUID;
+
 public class PaisMapper {
 
     public static PaisResponseDTO toDTO(Pais entity) {
         return new PaisResponseDTO(entity.getId(), entity.getNome());
     }
 
+    public static PaisResponseDTO referencia(UUID id) {
+        return new PaisResponseDTO(id, null);
+    }
+
     public static Pais toEntity(PaisRequestDTO dto) {
         Pais p = new Pais();
         p.setNome(dto.nome());
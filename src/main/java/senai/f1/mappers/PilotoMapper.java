@@ -1,8 +1,12 @@
 package senai.f1.mappers;
 
+import senai.f1.dtos.projection.PodioRow;
 import senai.f1.dtos.request.PilotoRequestDTO;
 import senai.f1.dtos.response.PilotoResponseDTO;
 import senai.f1.model.Piloto;
+import senai.f1.model.PilotoNoPodio;
+
+import java.util.UUID;
 
 public class PilotoMapper {
 
@@ -10,6 +14,18 @@ public class PilotoMapper {
         return new PilotoResponseDTO(entity.getId(), entity.getNome(), entity.getEquipe());
     }
 
+    public static PilotoResponseDTO toDTO(PodioRow row) {
+        return new PilotoResponseDTO(row.pilotoId(), row.nome(), row.equipe());
+    }
+
+    public static PilotoResponseDTO toDTO(PilotoNoPodio piloto) {
+        return new PilotoResponseDTO(piloto.id(), piloto.nome(), piloto.equipe());
+    }
+
+    public static PilotoResponseDTO referencia(UUID id) {
+        return new PilotoResponseDTO(id, null, null);
+    }
+
     public static Piloto toEntity(PilotoRequestDTO dto) {
         Piloto p = new Piloto();
         p.setNome(dto.nome());
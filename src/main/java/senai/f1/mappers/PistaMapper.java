@@ -1,11 +1,16 @@
 package senai.f1.mappers;
 
+import senai.f1.dtos.projection.PistaRow;
+import senai.f1.dtos.request.Expansao;
 import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.dtos.response.PaisResponseDTO;
 import senai.f1.dtos.response.PistaResponseDTO;
 import senai.f1.enums.Dificuldade;
 import senai.f1.model.Pais;
 import senai.f1.model.Pista;
 
+import java.util.UUID;
+
 public class PistaMapper {
 
     public static PistaResponseDTO toDTO(Pista entity) {
@@ -17,6 +22,30 @@ public class PistaMapper {
         );
     }
 
+    // País já conhecido (cache), sem tocar na associação da entidade
+    public static PistaResponseDTO toDTO(Pista entity, PaisResponseDTO pais) {
+        return new PistaResponseDTO(entity.getId(), pais, entity.getDistancia(), entity.getDificuldade().name());
+    }
+
+    public static PistaResponseDTO toDTO(PistaRow row) {
+        return toDTO(row, Expansao.COMPLETA);
+    }
+
+    public static PistaResponseDTO toDTO(PistaRow row, Expansao expansao) {
+        return new PistaResponseDTO(
+                row.id(),
+                !expansao.inclui("pais") ? null
+                        : expansao.expande("pais") ? new PaisResponseDTO(row.paisId(), row.paisNome())
+                        : PaisMapper.referencia(row.paisId()),
+                expansao.inclui("distancia") ? row.distancia() : null,
+                expansao.inclui("dificuldade") ? row.dificuldade().name() : null
+        );
+    }
+
+    public static PistaResponseDTO referencia(UUID id) {
+        return new PistaResponseDTO(id, null, null, null);
+    }
+
     public static Pista toEntity(PistaRequestDTO dto, Pais pais) {
         Pista p = new Pista();
         p.setPais(pais);
@@ -1,6 +1,7 @@
 package senai.f1.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,5 +19,8 @@ public class Campeonato {
     @OneToMany
     private List<Corrida> corridas;
 
-
+    // Também sobe quando corridas entram ou saem (o campeonato é dono de campeonato_corridas)
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long versao;
 }
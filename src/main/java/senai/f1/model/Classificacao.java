@@ -0,0 +1,32 @@
+package senai.f1.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+// Pontuação acumulada de um piloto em um campeonato, mantida incrementalmente pelos services
+@Entity
+@Getter
+@Setter
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"campeonato_id", "piloto_id"}),
+        indexes = @Index(name = "idx_classificacao_campeonato_pontos",
+                columnList = "campeonato_id, pontos DESC, vitorias DESC")
+)
+public class Classificacao {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Campeonato campeonato;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Piloto piloto;
+
+    private int pontos;
+    private int vitorias;
+    private int podios;
+}
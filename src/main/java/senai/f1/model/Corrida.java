@@ -1,6 +1,7 @@
 package senai.f1.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,14 +11,23 @@ import java.util.UUID;
 @Entity
 @Getter
 @Setter
+@Table(indexes = @Index(name = "idx_corrida_pista_id", columnList = "pista_id"))
 public class Corrida {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Pista pista;
 
+    // Posição no pódio = índice na lista (0 = vencedor)
     @ManyToMany
+    @OrderColumn(name = "posicao")
+    @JoinTable(indexes = @Index(name = "idx_corrida_podio_podio_id", columnList = "podio_id, corrida_id"))
     private List<Piloto> podio;
+
+    // Também sobe quando a pista ou o pódio mudam (a corrida é dona da tabela corrida_podio)
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long versao;
 }
@@ -0,0 +1,48 @@
+package senai.f1.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import senai.f1.enums.Dificuldade;
+
+import java.util.List;
+import java.util.UUID;
+
+// Modelo de leitura das corridas: uma linha por corrida com pista, país e pódio já resolvidos, para os GETs
+// de /corridas lerem uma tabela só. As tabelas normalizadas continuam sendo a fonte da verdade;
+// CorridaViewService mantém esta cópia na mesma transação de cada escrita e sabe reconstruí-la.
+@Entity
+@Getter
+@Setter
+@Table(name = "corrida_view", indexes = {
+        @Index(name = "idx_corrida_view_pista_id", columnList = "pista_id"),
+        @Index(name = "idx_corrida_view_pais_id", columnList = "pais_id"),
+        @Index(name = "idx_corrida_view_pais_nome_normalizado", columnList = "pais_nome_normalizado")
+})
+public class CorridaView {
+    // O mesmo id da corrida
+    @Id
+    private UUID id;
+
+    private UUID pistaId;
+    private Double distancia;
+
+    @Enumerated(EnumType.STRING)
+    private Dificuldade dificuldade;
+
+    private UUID paisId;
+    private String paisNome;
+    private String paisNomeNormalizado;
+
+    // Pódio em ordem, com nome e equipe de cada piloto
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<PilotoNoPodio> podio;
+
+    // Sobe a cada mudança na linha, inclusive as que vêm da pista, do país ou dos pilotos: é o ETag da corrida
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long versao;
+}
@@ -0,0 +1,26 @@
+package senai.f1.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Forma usada nas colunas de busca (*_normalizado): sem espaços nas pontas e em minúsculas.
+// Buscas comparam por igualdade nessas colunas indexadas em vez de upper(coluna) = upper(?).
+public final class Normalizador {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+
+    private Normalizador() { }
+
+    public static String normalizar(String texto) {
+        return texto == null ? null : texto.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Para a busca aproximada (BuscaService): além de normalizar, tira os acentos ("Itália" vira "italia")
+    public static String semAcentos(String texto) {
+        String normalizado = normalizar(texto);
+        return normalizado == null
+                ? null
+                : ACENTOS.matcher(Normalizer.normalize(normalizado, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
@@ -1,9 +1,7 @@
 package senai.f1.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,6 +10,7 @@ import java.util.UUID;
 @Entity
 @Getter
 @Setter
+@Table(indexes = @Index(name = "idx_pais_nome_normalizado", columnList = "nome_normalizado"))
 public class Pais {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -19,4 +18,16 @@ public class Pais {
 
     private String nome;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long versao;
+
+    @Setter(AccessLevel.NONE)
+    private String nomeNormalizado;
+
+    @PrePersist
+    @PreUpdate
+    void normalizar() {
+        nomeNormalizado = Normalizador.normalizar(nome);
+    }
 }
@@ -1,9 +1,7 @@
 package senai.f1.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,6 +10,10 @@ import java.util.UUID;
 @Entity
 @Getter
 @Setter
+@Table(indexes = {
+        @Index(name = "idx_piloto_nome", columnList = "nome"),
+        @Index(name = "idx_piloto_equipe_normalizada", columnList = "equipe_normalizada")
+})
 public class Piloto {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -19,4 +21,17 @@ public class Piloto {
 
     private String nome;
     private String equipe;
+
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long versao;
+
+    @Setter(AccessLevel.NONE)
+    private String equipeNormalizada;
+
+    @PrePersist
+    @PreUpdate
+    void normalizar() {
+        equipeNormalizada = Normalizador.normalizar(equipe);
+    }
 }
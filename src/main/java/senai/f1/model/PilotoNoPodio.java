@@ -0,0 +1,6 @@
+package senai.f1.model;
+
+import java.util.UUID;
+
+// Piloto copiado para o pódio de CorridaView; a posição é o índice na lista
+public record PilotoNoPodio(UUID id, String nome, String equipe) { }
@@ -1,6 +1,7 @@
 package senai.f1.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import senai.f1.enums.Dificuldade;
@@ -10,12 +11,13 @@ import java.util.UUID;
 @Entity
 @Getter
 @Setter
+@Table(indexes = @Index(name = "idx_pista_pais_id", columnList = "pais_id"))
 public class Pista {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Pais pais;
 
     private Double distancia;
@@ -23,4 +25,7 @@ public class Pista {
     @Enumerated(EnumType.STRING)
     private Dificuldade dificuldade;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long versao;
 }
@@ -0,0 +1,65 @@
+package senai.f1.pagination;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Paginação por chave (keyset): o cursor é o último id entregue, codificado em base64url.
+// A próxima página é lida com "where id > :cursor order by id limit :n", sem OFFSET.
+public final class Cursor {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 100;
+
+    private Cursor() { }
+
+    public static int limite(int limit) {
+        if (limit < 1) {
+            return LIMITE_PADRAO;
+        }
+        return Math.min(limit, LIMITE_MAXIMO);
+    }
+
+    // Busca um item a mais que o limite para saber se existe próxima página
+    public static Limit sonda(int limite) {
+        return Limit.of(limite + 1);
+    }
+
+    public static String encode(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static UUID decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != 16) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+            }
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+        }
+    }
+
+    public static <E> CursorPage<E> page(List<E> rows, int limite, Function<E, UUID> id) {
+        if (rows.size() <= limite) {
+            return new CursorPage<>(rows, null);
+        }
+        List<E> pagina = rows.subList(0, limite);
+        return new CursorPage<>(pagina, encode(id.apply(pagina.get(limite - 1))));
+    }
+
+    public static <E, T> CursorPage<T> page(List<E> rows, int limite, Function<E, UUID> id, Function<E, T> mapper) {
+        CursorPage<E> pagina = page(rows, limite, id);
+        return pagina.withContent(pagina.content().stream().map(mapper).toList());
+    }
+}
@@ -0,0 +1,14 @@
+package senai.f1.pagination;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> withContent(List<R> content) {
+        return new CursorPage<>(content, nextCursor);
+    }
+}
@@ -1,16 +1,112 @@
 package senai.f1.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import senai.f1.dtos.projection.CampeonatoCorridaRow;
+import senai.f1.dtos.projection.PodiosRow;
+import senai.f1.dtos.projection.PosicaoRow;
+import senai.f1.dtos.projection.ResumoRow;
 import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CampeonatoRepository extends JpaRepository<Campeonato, UUID> {
-    @Query("select c from Campeonato c join c.corridas r join r.podio p where p.equipe = :equipe")
-    List<Campeonato> findCampeonatosByEquipe(@Param("equipe") String equipe);
-}
\ No newline at end of file
+    @Override
+    @EntityGraph(attributePaths = "corridas.pista.pais")
+    Optional<Campeonato> findById(UUID id);
+
+    // corridas é um bag: o pódio não pode vir no mesmo fetch sem repetir corridas (ver fetchPodiosDasCorridas)
+    @Override
+    @EntityGraph(attributePaths = "corridas.pista.pais")
+    List<Campeonato> findAllById(Iterable<UUID> ids);
+
+    // Inicializa o pódio das corridas (já carregadas) dos campeonatos informados; filtra pelos ids dos
+    // campeonatos para não estourar o limite de parâmetros com os ids das corridas
+    @Query("select distinct r from Campeonato c join c.corridas r left join fetch r.podio where c.id in :ids")
+    List<Corrida> fetchPodiosDasCorridas(@Param("ids") Collection<UUID> ids);
+
+    // Um id por campeonato: com a junção no "in", o campeonato não se repete a cada pódio da equipe
+    @Query("select c.id from Campeonato c where c.id in (select k.id from Campeonato k join k.corridas r " +
+            "join r.podio p where p.equipeNormalizada = :equipe) order by c.id")
+    List<UUID> findCampeonatosByEquipe(@Param("equipe") String equipeNormalizada);
+
+    // Desempenho da equipe (GET /equipes/{equipe}/desempenho): pódios e vitórias agrupados no banco
+    @Query("select new senai.f1.dtos.projection.PodiosRow(c.id, count(x), " +
+            "sum(case when index(x) = 0 then 1 else 0 end)) from Campeonato c join c.corridas r join r.podio x " +
+            "where x.equipeNormalizada = :equipe group by c.id order by count(x) desc, c.id")
+    List<PodiosRow> findPodiosDaEquipePorCampeonato(@Param("equipe") String equipeNormalizada);
+
+    @Query("select c.id from Campeonato c join c.corridas r where r.id = :corridaId")
+    List<UUID> findIdsByCorrida(@Param("corridaId") UUID corridaId);
+
+    // Posições de pódio das corridas informadas em cada campeonato que as contém (pontos a descontar na
+    // exclusão); corrida sem pódio ainda traz o campeonato
+    @Query("select new senai.f1.dtos.projection.PosicaoRow(c.id, x.id, index(x)) " +
+            "from Campeonato c join c.corridas r left join r.podio x where r.id in :corridasIds")
+    List<PosicaoRow> findPosicoesByCorridas(@Param("corridasIds") Collection<UUID> corridasIds);
+
+    // Paginação por cursor (somente ids; o conteúdo vem das projeções abaixo)
+    @Query("select c.id from Campeonato c order by c.id")
+    List<UUID> findAllByOrderByIdAsc(Limit limit);
+
+    @Query("select c.id from Campeonato c where c.id > :id order by c.id")
+    List<UUID> findByIdGreaterThanOrderByIdAsc(@Param("id") UUID id, Limit limit);
+
+    @Query("select new senai.f1.dtos.projection.CampeonatoCorridaRow(c.id, r.id, p.id, pa.id, pa.nome, p.distancia, " +
+            "p.dificuldade) from Campeonato c join c.corridas r join r.pista p join p.pais pa where c.id in :ids")
+    List<CampeonatoCorridaRow> findCorridas(@Param("ids") Collection<UUID> ids);
+
+    // Corridas não expandidas: só a tabela de junção
+    @Query("select new senai.f1.dtos.projection.CampeonatoCorridaRow(c.id, r.id) " +
+            "from Campeonato c join c.corridas r where c.id in :ids")
+    List<CampeonatoCorridaRow> findCorridaIds(@Param("ids") Collection<UUID> ids);
+
+    // Corridas expandidas com a pista só com o id (a FK da corrida)
+    @Query("select new senai.f1.dtos.projection.CampeonatoCorridaRow(c.id, r.id, r.pista.id) " +
+            "from Campeonato c join c.corridas r where c.id in :ids")
+    List<CampeonatoCorridaRow> findCorridaRefs(@Param("ids") Collection<UUID> ids);
+
+    // Resumo agregado no banco, sem carregar as corridas. O left join mantém o campeonato sem corridas: há uma
+    // linha por campeonato existente
+    @Query("select new senai.f1.dtos.projection.ResumoRow(c.id, count(r.id), count(distinct p.pais.id), " +
+            "coalesce(sum(p.distancia), 0.0)) from Campeonato c left join c.corridas r left join r.pista p " +
+            "where c.id in :ids group by c.id")
+    List<ResumoRow> findResumos(@Param("ids") Collection<UUID> ids);
+
+    // Versões de tudo o que aparece na resposta (campeonato, corridas, pistas, países e pódios), para o ETag.
+    // Uma linha por piloto do pódio; só ids e números, sem hidratar entidades.
+    @Query("select c.id, c.versao, r.id, r.versao, p.versao, pa.versao, x.id, x.versao from Campeonato c " +
+            "left join c.corridas r left join r.pista p left join p.pais pa left join r.podio x " +
+            "where c.id in :ids order by c.id, r.id, index(x)")
+    List<Object[]> findVersoes(@Param("ids") Collection<UUID> ids);
+
+    // Corridas excluídas saem dos campeonatos direto na tabela de junção; a versão dos campeonatos sobe como
+    // subiria ao tirar a corrida da lista
+    @Modifying(flushAutomatically = true)
+    @Query("update Campeonato c set c.versao = c.versao + 1 where c.id in :ids")
+    int incrementarVersoes(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from campeonato_corridas where corridas_id in :corridasIds", nativeQuery = true)
+    int deleteCorridasDosCampeonatos(@Param("corridasIds") Collection<UUID> corridasIds);
+
+    // Exclusão set-based de campeonatos: junção com as corridas (que continuam existindo) e depois os
+    // campeonatos; o retorno é o número de campeonatos removidos
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from campeonato_corridas where campeonato_id in :ids", nativeQuery = true)
+    int deleteCorridasByCampeonatos(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Campeonato c where c.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,31 @@
+package senai.f1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import senai.f1.dtos.projection.ClassificacaoRow;
+import senai.f1.model.Classificacao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ClassificacaoRepository extends JpaRepository<Classificacao, UUID> {
+
+    // Leitura da tabela já ordenada pelo índice (campeonato_id, pontos desc, vitorias desc)
+    @Query("select new senai.f1.dtos.projection.ClassificacaoRow(p.id, p.nome, p.equipe, c.pontos, c.vitorias, " +
+            "c.podios) from Classificacao c join c.piloto p where c.campeonato.id = :campeonatoId " +
+            "order by c.pontos desc, c.vitorias desc, p.nome")
+    List<ClassificacaoRow> findTabela(@Param("campeonatoId") UUID campeonatoId);
+
+    @Query("select c from Classificacao c where c.campeonato.id = :campeonatoId and c.piloto.id in :pilotosIds")
+    List<Classificacao> findByCampeonatoAndPilotos(@Param("campeonatoId") UUID campeonatoId,
+                                                   @Param("pilotosIds") Collection<UUID> pilotosIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Classificacao c where c.campeonato.id in :campeonatosIds")
+    void deleteByCampeonatos(@Param("campeonatosIds") Collection<UUID> campeonatosIds);
+}
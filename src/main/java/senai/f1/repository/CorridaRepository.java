@@ -1,19 +1,119 @@
 package senai.f1.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import senai.f1.dtos.projection.CorridaRow;
+import senai.f1.dtos.projection.DueloRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.projection.PodiosRow;
+import senai.f1.dtos.projection.PosicaoPodioRow;
 import senai.f1.model.Corrida;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CorridaRepository extends JpaRepository<Corrida, UUID> {
 
-    @Query("select c from Corrida c join c.podio p where p.nome = :nome")
-    List<Corrida> findCorridasByPiloto(@Param("nome") String nome);
+    // Projeção somente leitura: uma linha por corrida, sem hidratar entidades
+    String CORRIDA_ROW = "select new senai.f1.dtos.projection.CorridaRow(c.id, p.id, pa.id, pa.nome, p.distancia, " +
+            "p.dificuldade) from Corrida c join c.pista p join p.pais pa ";
 
-    List<Corrida> findByPista_Pais_Nome(String nomePais);
+    // Só referências (pista não expandida): o id da pista é a FK da corrida, sem join com pista e país
+    String CORRIDA_REF = "select new senai.f1.dtos.projection.CorridaRow(c.id, c.pista.id) from Corrida c ";
+
+    // Corridas de um campeonato (GET /campeonatos/{id}/corridas), paginadas por cursor; a subconsulta usa a chave
+    // (campeonato_id, corridas_id) da tabela de junção
+    String DO_CAMPEONATO = "where c.id in (select r.id from Campeonato k join k.corridas r " +
+            "where k.id = :campeonatoId) ";
+
+    @Override
+    @EntityGraph(attributePaths = {"pista.pais", "podio"})
+    Optional<Corrida> findById(UUID id);
+
+    // Pódio é lista indexada (@OrderColumn), então entra no mesmo fetch sem duplicar corridas
+    @Override
+    @EntityGraph(attributePaths = {"pista.pais", "podio"})
+    List<Corrida> findAllById(Iterable<UUID> ids);
+
+    // Corridas com o piloto no pódio (atualização de corrida_view quando o piloto muda)
+    @Query("select c.id from Corrida c join c.podio x where x.id = :piloto")
+    List<UUID> findIdsByPiloto(@Param("piloto") UUID pilotoId);
+
+    // Paginação por cursor (verificação de corrida_view)
+    @Query(CORRIDA_ROW + "order by c.id")
+    List<CorridaRow> findAllByOrderByIdAsc(Limit limit);
+
+    @Query(CORRIDA_ROW + "where c.id > :id order by c.id")
+    List<CorridaRow> findByIdGreaterThanOrderByIdAsc(@Param("id") UUID id, Limit limit);
+
+    @Query(CORRIDA_ROW + DO_CAMPEONATO + "order by c.id")
+    List<CorridaRow> findByCampeonato(@Param("campeonatoId") UUID campeonatoId, Limit limit);
+
+    @Query(CORRIDA_ROW + DO_CAMPEONATO + "and c.id > :id order by c.id")
+    List<CorridaRow> findByCampeonatoAndIdGreaterThan(@Param("campeonatoId") UUID campeonatoId, @Param("id") UUID id,
+                                                      Limit limit);
+
+    @Query(CORRIDA_REF + DO_CAMPEONATO + "order by c.id")
+    List<CorridaRow> findRefsByCampeonato(@Param("campeonatoId") UUID campeonatoId, Limit limit);
+
+    @Query(CORRIDA_REF + DO_CAMPEONATO + "and c.id > :id order by c.id")
+    List<CorridaRow> findRefsByCampeonatoAndIdGreaterThan(@Param("campeonatoId") UUID campeonatoId,
+                                                          @Param("id") UUID id, Limit limit);
+
+    @Query("select new senai.f1.dtos.projection.PodioRow(c.id, x.id, x.nome, x.equipe) " +
+            "from Corrida c join c.podio x where c.id in :ids order by index(x)")
+    List<PodioRow> findPodios(@Param("ids") Collection<UUID> ids);
+
+    // Pódio só com os ids dos pilotos: lê a tabela de junção
+    @Query("select new senai.f1.dtos.projection.PodioRow(c.id, x.id) " +
+            "from Corrida c join c.podio x where c.id in :ids order by index(x)")
+    List<PodioRow> findPodioIds(@Param("ids") Collection<UUID> ids);
+
+    // Desempenho da equipe: pódios e vitórias por dificuldade da pista e por país, agrupados no banco
+    @Query("select new senai.f1.dtos.projection.PodiosRow(p.dificuldade, count(x), " +
+            "sum(case when index(x) = 0 then 1 else 0 end)) from Corrida c join c.pista p join c.podio x " +
+            "where x.equipeNormalizada = :equipe group by p.dificuldade order by p.dificuldade")
+    List<PodiosRow> findPodiosDaEquipePorDificuldade(@Param("equipe") String equipeNormalizada);
+
+    @Query("select new senai.f1.dtos.projection.PodiosRow(pa.id, pa.nome, count(x), " +
+            "sum(case when index(x) = 0 then 1 else 0 end)) from Corrida c join c.pista p join p.pais pa " +
+            "join c.podio x where x.equipeNormalizada = :equipe group by pa.id, pa.nome " +
+            "order by count(x) desc, pa.nome")
+    List<PodiosRow> findPodiosDaEquipePorPais(@Param("equipe") String equipeNormalizada);
+
+    // Estatísticas do piloto (GET /pilotos/{id}/estatisticas), agregadas sobre corrida_podio
+    @Query("select new senai.f1.dtos.projection.PosicaoPodioRow(index(x), count(c), sum(p.distancia)) " +
+            "from Corrida c join c.pista p join c.podio x where x.id = :piloto group by index(x) order by index(x)")
+    List<PosicaoPodioRow> findPosicoesDoPiloto(@Param("piloto") UUID pilotoId);
+
+    @Query("select new senai.f1.dtos.projection.PodiosRow(pa.id, pa.nome, count(c), " +
+            "sum(case when index(x) = 0 then 1 else 0 end)) from Corrida c join c.pista p join p.pais pa " +
+            "join c.podio x where x.id = :piloto group by pa.id, pa.nome order by count(c) desc, pa.nome")
+    List<PodiosRow> findCorridasDoPilotoPorPais(@Param("piloto") UUID pilotoId);
+
+    // Só as corridas em que os dois estão no pódio: de quem ficou fora não há posição gravada
+    @Query("select new senai.f1.dtos.projection.DueloRow(y.id, y.nome, " +
+            "sum(case when index(x) < index(y) then 1 else 0 end), " +
+            "sum(case when index(y) < index(x) then 1 else 0 end)) from Corrida c join c.podio x join c.podio y " +
+            "where x.id = :piloto and y.id <> x.id and y.equipeNormalizada = x.equipeNormalizada " +
+            "group by y.id, y.nome order by y.nome")
+    List<DueloRow> findDuelosDoPiloto(@Param("piloto") UUID pilotoId);
+
+    // Inicializa o pódio de corridas já carregadas em uma única consulta
+    @Query("select distinct c from Corrida c left join fetch c.podio where c.id in :ids")
+    List<Corrida> fetchPodios(@Param("ids") Collection<UUID> ids);
+
+    // Exclusão set-based; o retorno é o número de corridas removidas. O Hibernate apaga antes as linhas do
+    // pódio (tabela de junção) com um DELETE próprio. As de campeonato_corridas saem antes, por CampeonatoRepository.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Corrida c where c.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,88 @@
+package senai.f1.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import senai.f1.dtos.projection.CorridaViewRow;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.CorridaView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Leituras de /corridas: uma tabela, sem join. As escritas em massa vêm de CorridaViewService.
+@Repository
+public interface CorridaViewRepository extends JpaRepository<CorridaView, UUID> {
+
+    String VIEW_ROW = "select new senai.f1.dtos.projection.CorridaViewRow(v.id, v.pistaId, v.paisId, v.paisNome, " +
+            "v.distancia, v.dificuldade, v.podio) from CorridaView v ";
+
+    @Query(VIEW_ROW + "where v.id = :id")
+    Optional<CorridaViewRow> findRowById(@Param("id") UUID id);
+
+    @Query(VIEW_ROW + "where v.id in :ids")
+    List<CorridaViewRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Paginação por cursor
+    @Query(VIEW_ROW + "order by v.id")
+    List<CorridaViewRow> findAllByOrderByIdAsc(Limit limit);
+
+    @Query(VIEW_ROW + "where v.id > :id order by v.id")
+    List<CorridaViewRow> findByIdGreaterThanOrderByIdAsc(@Param("id") UUID id, Limit limit);
+
+    // Mesma janela da paginação acima, só com id e versão (ETag da página)
+    @Query("select v.id, v.versao from CorridaView v order by v.id")
+    List<Object[]> findVersoesByOrderByIdAsc(Limit limit);
+
+    @Query("select v.id, v.versao from CorridaView v where v.id > :id order by v.id")
+    List<Object[]> findVersoesByIdGreaterThanOrderByIdAsc(@Param("id") UUID id, Limit limit);
+
+    @Query("select v.id, v.versao from CorridaView v where v.id in :ids order by v.id")
+    List<Object[]> findVersoes(@Param("ids") Collection<UUID> ids);
+
+    @Query(VIEW_ROW + "where v.paisNomeNormalizado = :nomePais")
+    List<CorridaViewRow> findByPaisNomeNormalizado(@Param("nomePais") String nomePaisNormalizado);
+
+    // O pódio é JSON, então o filtro por piloto passa pela tabela de junção indexada (podio_id, corrida_id)
+    @Query(VIEW_ROW + "where v.id in (select c.id from Corrida c join c.podio x where x.nome = :nome)")
+    List<CorridaViewRow> findByPiloto(@Param("nome") String nome);
+
+    // Exportação: cursor do banco ordenado por corrida, lido em blocos de 1000 linhas
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(VIEW_ROW + "order by v.id")
+    Stream<CorridaViewRow> streamAll();
+
+    // Pista ou país alterados: um UPDATE nas linhas que os copiam, subindo a versão (ETag) de cada uma.
+    // Sem limpar o contexto: quem chama ainda usa as entidades que acabou de alterar.
+    @Modifying(flushAutomatically = true)
+    @Query("update CorridaView v set v.distancia = :distancia, v.dificuldade = :dificuldade, v.paisId = :paisId, " +
+            "v.paisNome = :paisNome, v.paisNomeNormalizado = :paisNomeNormalizado, v.versao = v.versao + 1 " +
+            "where v.pistaId = :pistaId")
+    int atualizarPista(@Param("pistaId") UUID pistaId, @Param("distancia") Double distancia,
+                       @Param("dificuldade") Dificuldade dificuldade, @Param("paisId") UUID paisId,
+                       @Param("paisNome") String paisNome, @Param("paisNomeNormalizado") String paisNomeNormalizado);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CorridaView v set v.paisNome = :nome, v.paisNomeNormalizado = :nomeNormalizado, " +
+            "v.versao = v.versao + 1 where v.paisId = :paisId")
+    int atualizarPais(@Param("paisId") UUID paisId, @Param("nome") String nome,
+                      @Param("nomeNormalizado") String nomeNormalizado);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CorridaView v where v.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    // Linhas de corridas que não existem mais (verificação)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CorridaView v where v.id not in (select c.id from Corrida c)")
+    int deleteOrfas();
+}
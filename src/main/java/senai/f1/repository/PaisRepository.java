@@ -1,14 +1,41 @@
 package senai.f1.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import senai.f1.model.Pais;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PaisRepository extends JpaRepository<Pais, UUID> {
-    Optional<Pais> findByNomeIgnoreCase(String nome);
-}
\ No newline at end of file
+    // Recebe o nome já normalizado (Normalizador): igualdade servida por idx_pais_nome_normalizado
+    Optional<Pais> findByNomeNormalizado(String nomeNormalizado);
+
+    // Paginação por cursor
+    List<Pais> findAllByOrderByIdAsc(Limit limit);
+
+    List<Pais> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    // Ids e versões da mesma janela (ETag da página)
+    @Query("select p.id, p.versao from Pais p order by p.id")
+    List<Object[]> findVersoesByOrderByIdAsc(Limit limit);
+
+    @Query("select p.id, p.versao from Pais p where p.id > :id order by p.id")
+    List<Object[]> findVersoesByIdGreaterThanOrderByIdAsc(@Param("id") UUID id, Limit limit);
+
+    // Ids existentes entre os informados (importação em lote)
+    @Query("select p.id from Pais p where p.id in :ids")
+    List<UUID> findIdsIn(@Param("ids") Collection<UUID> ids);
+
+    // Exclusão set-based, sem carregar as entidades; o retorno é o número de linhas removidas
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Pais p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
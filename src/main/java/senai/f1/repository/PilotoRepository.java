@@ -1,13 +1,29 @@
 package senai.f1.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import senai.f1.model.Piloto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface PilotoRepository extends JpaRepository<Piloto, UUID> {
-    List<Piloto> findByEquipeIgnoreCase(String equipe);
+    // Recebe a equipe já normalizada (Normalizador): igualdade servida por idx_piloto_equipe_normalizada
+    List<Piloto> findByEquipeNormalizada(String equipeNormalizada);
+
+    // Paginação por cursor
+    List<Piloto> findAllByOrderByIdAsc(Limit limit);
+
+    List<Piloto> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    // Exclusão set-based, sem carregar as entidades; o retorno é o número de linhas removidas
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Piloto p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
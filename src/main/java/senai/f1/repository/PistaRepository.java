@@ -1,15 +1,58 @@
 package senai.f1.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import senai.f1.dtos.projection.PistaRow;
 import senai.f1.enums.Dificuldade;
 import senai.f1.model.Pista;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PistaRepository extends JpaRepository<Pista, UUID> {
-    List<Pista> findByPais_NomeIgnoreCase(String paisNome);
-    List<Pista> findByDificuldade(Dificuldade dificuldade);
+    // Projeção somente leitura: uma linha por pista, sem hidratar entidades
+    String PISTA_ROW = "select new senai.f1.dtos.projection.PistaRow(p.id, pa.id, pa.nome, p.distancia, p.dificuldade) " +
+            "from Pista p join p.pais pa ";
+
+    @Override
+    @EntityGraph(attributePaths = "pais")
+    Optional<Pista> findById(UUID id);
+
+    @Override
+    @EntityGraph(attributePaths = "pais")
+    List<Pista> findAllById(Iterable<UUID> ids);
+
+    @Query(PISTA_ROW + "where pa.nomeNormalizado = :paisNome")
+    List<PistaRow> findByPaisNomeNormalizado(@Param("paisNome") String paisNomeNormalizado);
+
+    @Query(PISTA_ROW + "where p.dificuldade = :dificuldade")
+    List<PistaRow> findByDificuldade(@Param("dificuldade") Dificuldade dificuldade);
+
+    // Paginação por cursor
+    @Query(PISTA_ROW + "order by p.id")
+    List<PistaRow> findAllByOrderByIdAsc(Limit limit);
+
+    @Query(PISTA_ROW + "where p.id > :id order by p.id")
+    List<PistaRow> findByIdGreaterThanOrderByIdAsc(@Param("id") UUID id, Limit limit);
+
+    // Todas as pistas com o país, para montar o índice de busca na subida da aplicação
+    @Query(PISTA_ROW + "order by p.id")
+    List<PistaRow> findAllRows();
+
+    // Pistas com o país entre as informadas (importação de corridas, que copia a pista para corrida_view)
+    @Query(PISTA_ROW + "where p.id in :ids")
+    List<PistaRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Exclusão set-based, sem carregar as entidades; o retorno é o número de linhas removidas
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Pista p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,144 @@
+package senai.f1.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import senai.f1.dtos.projection.PistaRow;
+import senai.f1.dtos.response.ResultadoBuscaDTO;
+import senai.f1.model.Pais;
+import senai.f1.model.Piloto;
+import senai.f1.pagination.Cursor;
+import senai.f1.repository.PaisRepository;
+import senai.f1.repository.PilotoRepository;
+import senai.f1.repository.PistaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Busca aproximada (sem acentos, sem diferenciar maiúsculas, tolerante a erros de digitação) em países,
+// pilotos (nome e equipe) e pistas (pelo nome do país), servida pelo índice de trigramas em memória
+// (IndiceBusca). O índice é montado na subida da aplicação e atualizado pelos services de escrita depois do
+// commit: uma transação desfeita não deixa rastro nele.
+@Service
+@Timed("f1.service")
+@RequiredArgsConstructor
+public class BuscaService {
+    public static final String PAIS = "pais";
+    public static final String PILOTO = "piloto";
+    public static final String PISTA = "pista";
+
+    private final PaisRepository paisRepository;
+    private final PilotoRepository pilotoRepository;
+    private final PistaRepository pistaRepository;
+
+    private final IndiceBusca indice = new IndiceBusca();
+    // Pistas são indexadas pelo nome do país; quando ele muda, as pistas do país são reindexadas
+    private final Map<UUID, String> nomesDosPaises = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> paisDaPista = new ConcurrentHashMap<>();
+
+    public List<ResultadoBuscaDTO> buscar(String consulta, int limit) {
+        return indice.buscar(consulta, Cursor.limite(limit));
+    }
+
+    // Três consultas; o catálogo inteiro cabe em memória
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruir() {
+        indice.limpar();
+        nomesDosPaises.clear();
+        paisDaPista.clear();
+        paisRepository.findAll().forEach(p -> indexarPais(p.getId(), p.getNome()));
+        pilotoRepository.findAll().forEach(p -> indexarPiloto(p.getId(), p.getNome(), p.getEquipe()));
+        for (PistaRow pista : pistaRepository.findAllRows()) {
+            indexarPista(pista.id(), pista.paisId());
+        }
+    }
+
+    // Escritas: chamadas pelos services dentro da transação; o índice só muda no commit
+
+    public void pais(Pais pais) {
+        UUID id = pais.getId();
+        String nome = pais.getNome();
+        depoisDoCommit(() -> indexarPais(id, nome));
+    }
+
+    public void piloto(Piloto piloto) {
+        UUID id = piloto.getId();
+        String nome = piloto.getNome();
+        String equipe = piloto.getEquipe();
+        depoisDoCommit(() -> indexarPiloto(id, nome, equipe));
+    }
+
+    public void pista(UUID id, UUID paisId) {
+        depoisDoCommit(() -> indexarPista(id, paisId));
+    }
+
+    public void removerPaises(Collection<UUID> ids) {
+        List<UUID> removidos = List.copyOf(ids);
+        depoisDoCommit(() -> removidos.forEach(this::removerPais));
+    }
+
+    public void removerPilotos(Collection<UUID> ids) {
+        List<UUID> removidos = List.copyOf(ids);
+        depoisDoCommit(() -> removidos.forEach(this::removerPiloto));
+    }
+
+    public void removerPistas(Collection<UUID> ids) {
+        List<UUID> removidos = List.copyOf(ids);
+        depoisDoCommit(() -> removidos.forEach(this::removerPista));
+    }
+
+    private synchronized void indexarPais(UUID id, String nome) {
+        indice.indexar(PAIS, id, "nome", nome);
+        nomesDosPaises.put(id, nome);
+        paisDaPista.forEach((pista, pais) -> {
+            if (pais.equals(id)) {
+                indice.indexar(PISTA, pista, "pais", nome);
+            }
+        });
+    }
+
+    private synchronized void indexarPiloto(UUID id, String nome, String equipe) {
+        indice.indexar(PILOTO, id, "nome", nome);
+        indice.indexar(PILOTO, id, "equipe", equipe);
+    }
+
+    private synchronized void indexarPista(UUID id, UUID paisId) {
+        paisDaPista.put(id, paisId);
+        indice.indexar(PISTA, id, "pais", nomesDosPaises.get(paisId));
+    }
+
+    private synchronized void removerPais(UUID id) {
+        indice.remover(PAIS, id, "nome");
+        nomesDosPaises.remove(id);
+    }
+
+    private synchronized void removerPiloto(UUID id) {
+        indice.remover(PILOTO, id, "nome");
+        indice.remover(PILOTO, id, "equipe");
+    }
+
+    private synchronized void removerPista(UUID id) {
+        indice.remover(PISTA, id, "pais");
+        paisDaPista.remove(id);
+    }
+
+    private static void depoisDoCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
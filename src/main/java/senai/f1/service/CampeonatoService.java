@@ -1,69 +1,204 @@
 package senai.f1.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import senai.f1.dtos.projection.CampeonatoCorridaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.projection.ResumoRow;
 import senai.f1.dtos.request.CampeonatoRequestDTO;
+import senai.f1.dtos.request.Expansao;
 import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
+import senai.f1.dtos.response.ResumoTemporadaDTO;
 import senai.f1.mappers.CampeonatoMapper;
 import senai.f1.model.Campeonato;
 import senai.f1.model.Corrida;
+import senai.f1.model.Normalizador;
+import senai.f1.pagination.Cursor;
+import senai.f1.pagination.CursorPage;
 import senai.f1.repository.CampeonatoRepository;
 import senai.f1.repository.CorridaRepository;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("f1.service")
 @RequiredArgsConstructor
 public class CampeonatoService {
     private final CampeonatoRepository campeonatoRepository;
     private final CorridaRepository corridaRepository;
+    private final ClassificacaoService classificacaoService;
 
     @Transactional
     public CampeonatoResponseDTO create(CampeonatoRequestDTO dto) {
-        List<Corrida> corridas = corridaRepository.findAllById(dto.corridasIds());
-        if (corridas.size() != dto.corridasIds().size()) {
-            throw new RuntimeException("Uma ou mais corridas não encontradas");
-        }
+        List<Corrida> corridas = buscarCorridas(dto.corridasIds());
         Campeonato campeonato = CampeonatoMapper.toEntity(dto, corridas);
         campeonatoRepository.save(campeonato);
+        classificacaoService.adicionarCorridas(campeonato.getId(), corridas);
         return CampeonatoMapper.toDTO(campeonato);
     }
 
-    public List<CampeonatoResponseDTO> listAll() {
-        return campeonatoRepository.findAll().stream().map(CampeonatoMapper::toDTO).toList();
+    @Transactional
+    public CursorPage<CampeonatoResponseDTO> listAll(int limit, String cursor, Expansao expansao) {
+        int limite = Cursor.limite(limit);
+        // A página é lida só com ids (o LIMIT fica no banco); corridas e pódios vêm em projeções
+        CursorPage<UUID> pagina = Cursor.page(idsDaPagina(limite, cursor), limite, id -> id);
+        return pagina.withContent(montar(pagina.content(), expansao));
     }
 
-    public CampeonatoResponseDTO findById(UUID id) {
-        return campeonatoRepository.findById(id)
-                .map(CampeonatoMapper::toDTO)
-                .orElseThrow(() -> new RuntimeException("Campeonato não encontrado"));
+    // Versões da mesma página de listAll (incluindo o item de sonda), para o ETag
+    @Transactional
+    public List<Object[]> versoes(int limit, String cursor) {
+        List<UUID> ids = idsDaPagina(Cursor.limite(limit), cursor);
+        return ids.isEmpty() ? List.of() : campeonatoRepository.findVersoes(ids);
+    }
+
+    @Transactional
+    public CampeonatoResponseDTO findById(UUID id, Expansao expansao) {
+        CampeonatoResponseDTO campeonato = montar(List.of(id), expansao).get(0);
+        // O resumo só existe para campeonato existente; sem ele, corridas vazias não distinguem um campeonato
+        // sem corridas de um inexistente
+        if (campeonato.resumo() == null && (campeonato.corridas() == null || campeonato.corridas().isEmpty())
+                && !campeonatoRepository.existsById(id)) {
+            throw new RuntimeException("Campeonato não encontrado");
+        }
+        return campeonato;
+    }
+
+    // Multi-get: só o resumo agregado por bloco de ids ou, com as corridas pedidas, campeonatos com corridas,
+    // pistas e países em uma consulta por bloco, mais os pódios quando a resposta mostra o pódio
+    @Transactional
+    public List<ItemPorIdDTO<CampeonatoResponseDTO>> findAllById(List<UUID> ids, Expansao expansao) {
+        if (!CampeonatoMapper.comCorridas(expansao)) {
+            return PorIds.buscar(ids, campeonatoRepository::findResumos, ResumoRow::campeonatoId,
+                    r -> CampeonatoMapper.toDTO(r, expansao));
+        }
+        boolean podios = expansao.expande("corridas") && expansao.filho("corridas").inclui("podio");
+        return PorIds.buscar(ids, bloco -> {
+            List<Campeonato> campeonatos = campeonatoRepository.findAllById(bloco);
+            if (podios && !campeonatos.isEmpty()) {
+                campeonatoRepository.fetchPodiosDasCorridas(bloco);
+            }
+            return campeonatos;
+        }, Campeonato::getId, c -> CampeonatoMapper.toDTO(c, expansao));
+    }
+
+    @Transactional
+    public List<Object[]> versao(UUID id) {
+        List<Object[]> versoes = campeonatoRepository.findVersoes(List.of(id));
+        if (versoes.isEmpty()) {
+            throw new RuntimeException("Campeonato não encontrado");
+        }
+        return versoes;
     }
 
     @Transactional
     public CampeonatoResponseDTO update(UUID id, CampeonatoRequestDTO dto) {
         Campeonato campeonato = campeonatoRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Campeonato não encontrado"));
-        List<Corrida> corridas = corridaRepository.findAllById(dto.corridasIds());
-        if (corridas.size() != dto.corridasIds().size()) {
-            throw new RuntimeException("Uma ou mais corridas não encontradas");
-        }
+        List<Corrida> corridas = buscarCorridas(dto.corridasIds());
+        atualizarClassificacao(id, campeonato.getCorridas(), corridas);
         campeonato.setCorridas(corridas);
         return CampeonatoMapper.toDTO(campeonatoRepository.save(campeonato));
     }
 
+    // O número de linhas removidas decide o 404, sem consulta de existência antes
     @Transactional
     public void delete(UUID id) {
-        if (!campeonatoRepository.existsById(id)) {
-            throw new RuntimeException("Campeonato não encontrado");
+        if (excluir(List.of(id)) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Campeonato não encontrado");
         }
-        campeonatoRepository.deleteById(id);
+    }
+
+    // Ids inexistentes são ignorados; a resposta diz quantos foram removidos. As corridas continuam existindo.
+    @Transactional
+    public ExclusaoResponseDTO deleteAllById(List<UUID> ids) {
+        return PorIds.excluir(ids, this::excluir);
     }
 
     // Consulta customizada
-    public List<CampeonatoResponseDTO> findByEquipe(String equipe) {
-        return campeonatoRepository.findCampeonatosByEquipe(equipe).stream()
-                .map(CampeonatoMapper::toDTO).toList();
+    @Transactional
+    public List<CampeonatoResponseDTO> findByEquipe(String equipe, Expansao expansao) {
+        return montar(campeonatoRepository.findCampeonatosByEquipe(Normalizador.normalizar(equipe)), expansao);
+    }
+
+    // Tabela de pontos, junção com as corridas e campeonatos, cada um em um DELETE ... IN
+    private int excluir(List<UUID> ids) {
+        classificacaoService.removerCampeonatos(ids);
+        campeonatoRepository.deleteCorridasByCampeonatos(ids);
+        return campeonatoRepository.deleteByIds(ids);
+    }
+
+    private List<UUID> idsDaPagina(int limite, String cursor) {
+        return cursor == null
+                ? campeonatoRepository.findAllByOrderByIdAsc(Cursor.sonda(limite))
+                : campeonatoRepository.findByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor), Cursor.sonda(limite));
+    }
+
+    // Cada nível só é consultado quando pedido: por padrão, só o resumo agregado; com fields=corridas, as
+    // corridas saem da tabela de junção só com ids
+    private List<CampeonatoResponseDTO> montar(List<UUID> ids, Expansao expansao) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> distintos = new LinkedHashSet<>(ids);
+        Map<UUID, ResumoTemporadaDTO> resumos = expansao.inclui("resumo") ? resumos(distintos) : Map.of();
+        if (!CampeonatoMapper.comCorridas(expansao)) {
+            return CampeonatoMapper.toDTOs(ids, resumos, List.of(), List.of(), expansao);
+        }
+        if (!expansao.expande("corridas")) {
+            return CampeonatoMapper.toDTOs(ids, resumos, campeonatoRepository.findCorridaIds(distintos), List.of(),
+                    expansao);
+        }
+        Expansao corridas = expansao.filho("corridas");
+        List<CampeonatoCorridaRow> linhas = corridas.expande("pista")
+                ? campeonatoRepository.findCorridas(distintos)
+                : campeonatoRepository.findCorridaRefs(distintos);
+        // Pódios pelas corridas distintas da página: uma corrida em mais de um campeonato não repete as linhas
+        List<PodioRow> podios = List.of();
+        if (corridas.inclui("podio")) {
+            List<UUID> corridaIds = linhas.stream().map(CampeonatoCorridaRow::corridaId).distinct().toList();
+            podios = corridaIds.isEmpty() ? List.of()
+                    : corridas.expande("podio") ? corridaRepository.findPodios(corridaIds)
+                    : corridaRepository.findPodioIds(corridaIds);
+        }
+        return CampeonatoMapper.toDTOs(ids, resumos, linhas, podios, expansao);
+    }
+
+    private Map<UUID, ResumoTemporadaDTO> resumos(Set<UUID> ids) {
+        return campeonatoRepository.findResumos(ids).stream()
+                .collect(Collectors.toMap(ResumoRow::campeonatoId, CampeonatoMapper::resumo));
+    }
+
+    // Só as corridas que entraram ou saíram mexem na tabela de pontos
+    private void atualizarClassificacao(UUID id, List<Corrida> antigas, List<Corrida> novas) {
+        Set<Corrida> mantidas = new HashSet<>(novas);
+        List<Corrida> removidas = antigas.stream().filter(c -> !mantidas.contains(c)).toList();
+        Set<Corrida> existentes = new HashSet<>(antigas);
+        List<Corrida> adicionadas = novas.stream().filter(c -> !existentes.contains(c)).toList();
+        if (!removidas.isEmpty()) {
+            corridaRepository.fetchPodios(removidas.stream().map(Corrida::getId).toList());
+            classificacaoService.removerCorridas(id, removidas);
+        }
+        classificacaoService.adicionarCorridas(id, adicionadas);
+    }
+
+    private List<Corrida> buscarCorridas(List<UUID> ids) {
+        List<Corrida> corridas = corridaRepository.findAllById(ids);
+        if (corridas.size() != ids.size()) {
+            throw new RuntimeException("Uma ou mais corridas não encontradas");
+        }
+        return corridas;
     }
 }
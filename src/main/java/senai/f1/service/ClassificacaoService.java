@@ -0,0 +1,142 @@
+package senai.f1.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import senai.f1.dtos.projection.PosicaoRow;
+import senai.f1.dtos.response.ClassificacaoResponseDTO;
+import senai.f1.mappers.ClassificacaoMapper;
+import senai.f1.model.Classificacao;
+import senai.f1.model.Corrida;
+import senai.f1.model.Piloto;
+import senai.f1.repository.CampeonatoRepository;
+import senai.f1.repository.ClassificacaoRepository;
+import senai.f1.repository.PilotoRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Tabela de pontos por campeonato. Cada alteração aplica só a diferença de pontos das corridas afetadas,
+// sem recalcular a temporada inteira.
+@Service
+@Timed("f1.service")
+@RequiredArgsConstructor
+public class ClassificacaoService {
+    // Pontuação da F1 por posição no pódio (1º ao 10º)
+    private static final int[] PONTOS = {25, 18, 15, 12, 10, 8, 6, 4, 2, 1};
+
+    private final ClassificacaoRepository classificacaoRepository;
+    private final CampeonatoRepository campeonatoRepository;
+    private final PilotoRepository pilotoRepository;
+
+    @Transactional
+    public List<ClassificacaoResponseDTO> findByCampeonato(UUID campeonatoId) {
+        List<ClassificacaoResponseDTO> tabela = ClassificacaoMapper.toDTOs(
+                classificacaoRepository.findTabela(campeonatoId));
+        if (tabela.isEmpty() && !campeonatoRepository.existsById(campeonatoId)) {
+            throw new RuntimeException("Campeonato não encontrado");
+        }
+        return tabela;
+    }
+
+    public void adicionarCorridas(UUID campeonatoId, Collection<Corrida> corridas) {
+        Map<UUID, Pontuacao> diferenca = new HashMap<>();
+        corridas.forEach(c -> somar(diferenca, pilotos(c.getPodio()), 1));
+        aplicar(campeonatoId, diferenca);
+    }
+
+    public void removerCorridas(UUID campeonatoId, Collection<Corrida> corridas) {
+        Map<UUID, Pontuacao> diferenca = new HashMap<>();
+        corridas.forEach(c -> somar(diferenca, pilotos(c.getPodio()), -1));
+        aplicar(campeonatoId, diferenca);
+    }
+
+    // Troca de pódio de uma corrida: sai a pontuação antiga e entra a nova em cada campeonato que a contém
+    public void substituirPodio(Collection<UUID> campeonatosIds, List<UUID> podioAntigo, List<UUID> podioNovo) {
+        Map<UUID, Pontuacao> diferenca = new HashMap<>();
+        somar(diferenca, podioAntigo, -1);
+        somar(diferenca, podioNovo, 1);
+        campeonatosIds.forEach(id -> aplicar(id, diferenca));
+    }
+
+    // Exclusão em lote de corridas: desconta, em cada campeonato, as posições lidas antes de excluir
+    public void removerPosicoes(Collection<PosicaoRow> posicoes) {
+        Map<UUID, Map<UUID, Pontuacao>> porCampeonato = new HashMap<>();
+        for (PosicaoRow p : posicoes) {
+            Map<UUID, Pontuacao> diferenca = porCampeonato.computeIfAbsent(p.campeonatoId(), id -> new HashMap<>());
+            if (p.pilotoId() != null) {
+                somar(diferenca, p.pilotoId(), p.posicao(), -1);
+            }
+        }
+        porCampeonato.forEach(this::aplicar);
+    }
+
+    public void removerCampeonatos(Collection<UUID> campeonatosIds) {
+        classificacaoRepository.deleteByCampeonatos(campeonatosIds);
+    }
+
+    public static List<UUID> pilotos(List<Piloto> podio) {
+        return podio.stream().map(Piloto::getId).toList();
+    }
+
+    private static void somar(Map<UUID, Pontuacao> diferenca, List<UUID> podio, int sinal) {
+        for (int i = 0; i < podio.size(); i++) {
+            somar(diferenca, podio.get(i), i, sinal);
+        }
+    }
+
+    private static void somar(Map<UUID, Pontuacao> diferenca, UUID piloto, int posicao, int sinal) {
+        Pontuacao p = new Pontuacao(
+                sinal * (posicao < PONTOS.length ? PONTOS[posicao] : 0),
+                sinal * (posicao == 0 ? 1 : 0),
+                sinal);
+        diferenca.merge(piloto, p, Pontuacao::somar);
+    }
+
+    // Uma leitura das linhas envolvidas; as alterações saem em lote no flush
+    private void aplicar(UUID campeonatoId, Map<UUID, Pontuacao> diferenca) {
+        diferenca.values().removeIf(Pontuacao::nula);
+        if (diferenca.isEmpty()) {
+            return;
+        }
+        Map<UUID, Classificacao> linhas = new HashMap<>();
+        classificacaoRepository.findByCampeonatoAndPilotos(campeonatoId, diferenca.keySet())
+                .forEach(c -> linhas.put(c.getPiloto().getId(), c));
+        List<Classificacao> novas = new ArrayList<>();
+        diferenca.forEach((pilotoId, p) -> {
+            Classificacao linha = linhas.get(pilotoId);
+            if (linha == null) {
+                if (p.podios() <= 0) {
+                    return;
+                }
+                linha = new Classificacao();
+                linha.setCampeonato(campeonatoRepository.getReferenceById(campeonatoId));
+                linha.setPiloto(pilotoRepository.getReferenceById(pilotoId));
+                novas.add(linha);
+            }
+            linha.setPontos(linha.getPontos() + p.pontos());
+            linha.setVitorias(linha.getVitorias() + p.vitorias());
+            linha.setPodios(linha.getPodios() + p.podios());
+            // Piloto sem nenhum pódio restante sai da tabela
+            if (linha.getPodios() <= 0) {
+                classificacaoRepository.delete(linha);
+            }
+        });
+        classificacaoRepository.saveAll(novas);
+    }
+
+    private record Pontuacao(int pontos, int vitorias, int podios) {
+        Pontuacao somar(Pontuacao outra) {
+            return new Pontuacao(pontos + outra.pontos, vitorias + outra.vitorias, podios + outra.podios);
+        }
+
+        boolean nula() {
+            return pontos == 0 && vitorias == 0 && podios == 0;
+        }
+    }
+}
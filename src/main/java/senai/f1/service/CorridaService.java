@@ -1,83 +1,290 @@
 package senai.f1.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import senai.f1.configuration.CacheConfig;
+import senai.f1.dtos.projection.CorridaViewRow;
+import senai.f1.dtos.projection.CorridaRow;
+import senai.f1.dtos.projection.PistaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.projection.PosicaoRow;
 import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.dtos.request.Expansao;
 import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
+import senai.f1.dtos.response.VerificacaoViewResponseDTO;
 import senai.f1.mappers.CorridaMapper;
+import senai.f1.mappers.CorridaViewMapper;
 import senai.f1.model.Corrida;
+import senai.f1.model.Normalizador;
 import senai.f1.model.Piloto;
+import senai.f1.model.PilotoNoPodio;
 import senai.f1.model.Pista;
+import senai.f1.pagination.Cursor;
+import senai.f1.pagination.CursorPage;
+import senai.f1.repository.CampeonatoRepository;
 import senai.f1.repository.CorridaRepository;
+import senai.f1.repository.CorridaViewRepository;
 import senai.f1.repository.PilotoRepository;
 import senai.f1.repository.PistaRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("f1.service")
 @RequiredArgsConstructor
 public class CorridaService {
     private final CorridaRepository corridaRepository;
     private final PistaRepository pistaRepository;
     private final PilotoRepository pilotoRepository;
+    private final CampeonatoRepository campeonatoRepository;
+    private final ClassificacaoService classificacaoService;
+    private final ReferenciaService referenciaService;
+    private final EstatisticasPilotoService estatisticasPilotoService;
+    private final CorridaViewRepository corridaViewRepository;
+    private final CorridaViewService corridaViewService;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
     @Transactional
     public CorridaResponseDTO create(CorridaRequestDTO dto) {
-        Pista pista = pistaRepository.findById(dto.pistaId())
+        PistaResponseDTO pista = referenciaService.pista(dto.pistaId())
                 .orElseThrow(() -> new RuntimeException("Pista não encontrada"));
-        List<Piloto> pilotos = pilotoRepository.findAllById(dto.podioIds());
-        if (pilotos.size() != dto.podioIds().size()) {
-            throw new RuntimeException("Um ou mais pilotos não encontrados");
-        }
-        Corrida corrida = CorridaMapper.toEntity(dto, pista, pilotos);
+        List<Piloto> pilotos = buscarPodio(dto.podioIds());
+        Corrida corrida = CorridaMapper.toEntity(dto, pistaRepository.getReferenceById(pista.id()), pilotos);
         corridaRepository.save(corrida);
-        return CorridaMapper.toDTO(corrida);
+        corridaViewService.inserir(corrida.getId(), CorridaViewMapper.pista(pista), CorridaViewMapper.podio(pilotos));
+        estatisticasPilotoService.invalidar(dto.podioIds());
+        return CorridaMapper.toDTO(corrida, pista);
+    }
+
+    // Pistas e pilotos referenciados são resolvidos em poucas consultas "in (...)"; as entidades novas
+    // apontam para referências (sem select) e são inseridas em lotes JDBC. As linhas de corrida_view saem
+    // do que essas consultas já trouxeram, também em lotes.
+    @Transactional
+    public ImportacaoResponseDTO importar(List<CorridaRequestDTO> dtos) {
+        Importacao<Corrida> importacao = Importacao.de(dtos);
+        List<CorridaRequestDTO> informados = dtos.stream().filter(Objects::nonNull).toList();
+        Map<UUID, PistaRow> pistas = Importacao.porId(
+                informados.stream().map(CorridaRequestDTO::pistaId).toList(),
+                pistaRepository::findRowsByIdIn, PistaRow::id);
+        Map<UUID, PilotoNoPodio> pilotos = Importacao.porId(
+                informados.stream().filter(d -> d.podioIds() != null).flatMap(d -> d.podioIds().stream()).toList(),
+                pilotoRepository::findAllById, Piloto::getId).values().stream()
+                .collect(Collectors.toMap(Piloto::getId, CorridaViewMapper::piloto));
+        for (int i = 0; i < dtos.size(); i++) {
+            CorridaRequestDTO dto = dtos.get(i);
+            String violacoes = dto == null ? "" : Importacao.violacoes(validator, dto);
+            if (dto == null) {
+                importacao.rejeitar(i, "Registro vazio");
+            } else if (!violacoes.isEmpty()) {
+                importacao.rejeitar(i, violacoes);
+            } else if (!pistas.containsKey(dto.pistaId())) {
+                importacao.rejeitar(i, "Pista não encontrada");
+            } else if (dto.podioIds() == null || !pilotos.keySet().containsAll(dto.podioIds())) {
+                importacao.rejeitar(i, "Um ou mais pilotos não encontrados");
+            } else {
+                Pista pista = pistaRepository.getReferenceById(dto.pistaId());
+                List<Piloto> podio = dto.podioIds().stream().map(pilotoRepository::getReferenceById).toList();
+                importacao.aceitar(CorridaMapper.toEntity(dto, pista, new ArrayList<>(podio)));
+            }
+        }
+        ImportacaoResponseDTO resposta = importacao.gravar(entityManager);
+        // desanexadas, mas os ids da pista e do pódio estão nas referências
+        corridaViewService.inserirTodos(importacao.gravados().stream()
+                .map(c -> CorridaViewMapper.toView(c.getId(), pistas.get(c.getPista().getId()),
+                        c.getPodio().stream().map(p -> pilotos.get(p.getId())).toList()))
+                .toList());
+        estatisticasPilotoService.invalidar(pilotos.keySet());
+        return resposta;
     }
 
-    public List<CorridaResponseDTO> listAll() {
-        return corridaRepository.findAll().stream().map(CorridaMapper::toDTO).toList();
+    // As leituras de /corridas vêm de corrida_view: pista, país e pódio na mesma linha, uma consulta sem join
+    @Transactional
+    public CursorPage<CorridaResponseDTO> listAll(int limit, String cursor, Expansao expansao) {
+        int limite = Cursor.limite(limit);
+        List<CorridaViewRow> corridas = cursor == null
+                ? corridaViewRepository.findAllByOrderByIdAsc(Cursor.sonda(limite))
+                : corridaViewRepository.findByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor), Cursor.sonda(limite));
+        return Cursor.page(corridas, limite, CorridaViewRow::id, r -> CorridaMapper.toDTO(r, expansao));
+    }
+
+    // Sub-recurso GET /campeonatos/{id}/corridas: as corridas de um campeonato em páginas por cursor, com as
+    // mesmas opções de fields e expand da listagem. Lê as tabelas normalizadas, pelo filtro de campeonato.
+    @Transactional
+    public CursorPage<CorridaResponseDTO> findByCampeonato(UUID campeonatoId, int limit, String cursor,
+                                                           Expansao expansao) {
+        int limite = Cursor.limite(limit);
+        UUID depois = cursor == null ? null : Cursor.decode(cursor);
+        List<CorridaRow> corridas;
+        if (expansao.expande("pista")) {
+            corridas = depois == null
+                    ? corridaRepository.findByCampeonato(campeonatoId, Cursor.sonda(limite))
+                    : corridaRepository.findByCampeonatoAndIdGreaterThan(campeonatoId, depois, Cursor.sonda(limite));
+        } else {
+            corridas = depois == null
+                    ? corridaRepository.findRefsByCampeonato(campeonatoId, Cursor.sonda(limite))
+                    : corridaRepository.findRefsByCampeonatoAndIdGreaterThan(campeonatoId, depois,
+                            Cursor.sonda(limite));
+        }
+        if (corridas.isEmpty() && !campeonatoRepository.existsById(campeonatoId)) {
+            throw new RuntimeException("Campeonato não encontrado");
+        }
+        CursorPage<CorridaRow> pagina = Cursor.page(corridas, limite, CorridaRow::id);
+        return pagina.withContent(comPodios(pagina.content(), expansao));
     }
 
-    public CorridaResponseDTO findById(UUID id) {
-        return corridaRepository.findById(id)
-                .map(CorridaMapper::toDTO)
+    // Versões da mesma página de listAll (incluindo o item de sonda), para o ETag. A versão da linha de
+    // corrida_view já sobe quando a pista, o país ou um piloto do pódio mudam.
+    @Transactional
+    public List<Object[]> versoes(int limit, String cursor) {
+        int limite = Cursor.limite(limit);
+        return cursor == null
+                ? corridaViewRepository.findVersoesByOrderByIdAsc(Cursor.sonda(limite))
+                : corridaViewRepository.findVersoesByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor),
+                        Cursor.sonda(limite));
+    }
+
+    @Transactional
+    public CorridaResponseDTO findById(UUID id, Expansao expansao) {
+        return corridaViewRepository.findRowById(id)
+                .map(r -> CorridaMapper.toDTO(r, expansao))
                 .orElseThrow(() -> new RuntimeException("Corrida não encontrada"));
     }
 
+    // Multi-get: uma consulta por bloco de ids
+    @Transactional
+    public List<ItemPorIdDTO<CorridaResponseDTO>> findAllById(List<UUID> ids, Expansao expansao) {
+        return PorIds.buscar(ids, corridaViewRepository::findRowsByIdIn, CorridaViewRow::id,
+                r -> CorridaMapper.toDTO(r, expansao));
+    }
+
+    @Transactional
+    public List<Object[]> versao(UUID id) {
+        List<Object[]> versoes = corridaViewRepository.findVersoes(List.of(id));
+        if (versoes.isEmpty()) {
+            throw new RuntimeException("Corrida não encontrada");
+        }
+        return versoes;
+    }
+
     @Transactional
     public CorridaResponseDTO update(UUID id, CorridaRequestDTO dto) {
         Corrida corrida = corridaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Corrida não encontrada"));
         Pista pista = pistaRepository.findById(dto.pistaId())
                 .orElseThrow(() -> new RuntimeException("Pista não encontrada"));
-        List<Piloto> pilotos = pilotoRepository.findAllById(dto.podioIds());
-        if (pilotos.size() != dto.podioIds().size()) {
-            throw new RuntimeException("Um ou mais pilotos não encontrados");
-        }
+        List<Piloto> pilotos = buscarPodio(dto.podioIds());
+        List<UUID> podioAntigo = ClassificacaoService.pilotos(corrida.getPodio());
         corrida.setPista(pista);
         corrida.setPodio(pilotos);
+        classificacaoService.substituirPodio(campeonatoRepository.findIdsByCorrida(id), podioAntigo,
+                ClassificacaoService.pilotos(pilotos));
+        // a pista pode ter mudado, então o pódio antigo e o novo saem do cache
+        estatisticasPilotoService.invalidar(podioAntigo);
+        estatisticasPilotoService.invalidar(dto.podioIds());
+        corridaViewService.atualizar(id, CorridaViewMapper.pista(pista), CorridaViewMapper.podio(pilotos));
         return CorridaMapper.toDTO(corridaRepository.save(corrida));
     }
 
+    // O número de linhas removidas decide o 404, sem consulta de existência antes
+    // Sem ler o pódio das corridas removidas, as estatísticas de todos os pilotos saem do cache
+    @CacheEvict(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, allEntries = true)
     @Transactional
     public void delete(UUID id) {
-        if (!corridaRepository.existsById(id)) {
-            throw new RuntimeException("Corrida não encontrada");
+        if (excluir(List.of(id)) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Corrida não encontrada");
         }
-        corridaRepository.deleteById(id);
+    }
+
+    // Ids inexistentes são ignorados; a resposta diz quantos foram removidos
+    @CacheEvict(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, allEntries = true)
+    @Transactional
+    public ExclusaoResponseDTO deleteAllById(List<UUID> ids) {
+        return PorIds.excluir(ids, this::excluir);
     }
 
     // Consultas customizadas
-    public List<CorridaResponseDTO> findByPiloto(String nomePiloto) {
-        return corridaRepository.findCorridasByPiloto(nomePiloto).stream()
-                .map(CorridaMapper::toDTO).toList();
+    @Transactional
+    public List<CorridaResponseDTO> findByPiloto(String nomePiloto, Expansao expansao) {
+        return corridaViewRepository.findByPiloto(nomePiloto).stream()
+                .map(r -> CorridaMapper.toDTO(r, expansao))
+                .toList();
     }
 
-    public List<CorridaResponseDTO> findByPais(String paisNome) {
-        return corridaRepository.findByPista_Pais_Nome(paisNome).stream()
-                .map(CorridaMapper::toDTO).toList();
+    @Transactional
+    public List<CorridaResponseDTO> findByPais(String paisNome, Expansao expansao) {
+        return corridaViewRepository.findByPaisNomeNormalizado(Normalizador.normalizar(paisNome)).stream()
+                .map(r -> CorridaMapper.toDTO(r, expansao))
+                .toList();
+    }
+
+    // Exportação em streaming: cada linha de corrida_view já é uma corrida inteira, entregue assim que lida
+    @Transactional
+    public void exportar(Consumer<CorridaResponseDTO> consumidor) {
+        try (Stream<CorridaViewRow> linhas = corridaViewRepository.streamAll()) {
+            linhas.forEach(r -> consumidor.accept(CorridaMapper.toDTO(r, Expansao.COMPLETA)));
+        }
+    }
+
+    // Reconstrói corrida_view a partir das tabelas normalizadas (POST /corridas/view/verificar)
+    public VerificacaoViewResponseDTO verificarView() {
+        return corridaViewService.verificar();
+    }
+
+    // As corridas saem dos campeonatos que as contêm e levam junto os pontos que valiam. Tudo set-based:
+    // uma leitura das posições, DELETE ... IN em corrida_view, nas tabelas de junção e nas corridas. Corrida
+    // fora de campeonato custa quatro comandos.
+    private int excluir(List<UUID> ids) {
+        List<PosicaoRow> posicoes = campeonatoRepository.findPosicoesByCorridas(ids);
+        if (!posicoes.isEmpty()) {
+            classificacaoService.removerPosicoes(posicoes);
+            campeonatoRepository.incrementarVersoes(posicoes.stream().map(PosicaoRow::campeonatoId)
+                    .collect(Collectors.toSet()));
+            campeonatoRepository.deleteCorridasDosCampeonatos(ids);
+        }
+        corridaViewService.excluir(ids);
+        return corridaRepository.deleteByIds(ids);
+    }
+
+    // Mantém a ordem informada: a posição no pódio é o índice na lista
+    private List<Piloto> buscarPodio(List<UUID> ids) {
+        Map<UUID, Piloto> porId = pilotoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Piloto::getId, p -> p));
+        if (porId.size() != ids.size()) {
+            throw new RuntimeException("Um ou mais pilotos não encontrados");
+        }
+        return new ArrayList<>(ids.stream().map(porId::get).toList());
+    }
+
+    // Pódio completo, só com os ids ou nem consultado, conforme expand e fields
+    private List<CorridaResponseDTO> comPodios(List<CorridaRow> corridas, Expansao expansao) {
+        if (corridas.isEmpty()) {
+            return List.of();
+        }
+        List<PodioRow> podios = List.of();
+        if (expansao.inclui("podio")) {
+            List<UUID> ids = corridas.stream().map(CorridaRow::id).toList();
+            podios = expansao.expande("podio") ? corridaRepository.findPodios(ids) : corridaRepository.findPodioIds(ids);
+        }
+        return CorridaMapper.toDTOs(corridas, podios, expansao);
     }
 }
 
@@ -0,0 +1,135 @@
+package senai.f1.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import senai.f1.dtos.projection.CorridaRow;
+import senai.f1.dtos.projection.PistaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.response.VerificacaoViewResponseDTO;
+import senai.f1.mappers.CorridaViewMapper;
+import senai.f1.model.CorridaView;
+import senai.f1.model.Normalizador;
+import senai.f1.model.Piloto;
+import senai.f1.model.PilotoNoPodio;
+import senai.f1.repository.CorridaRepository;
+import senai.f1.repository.CorridaViewRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+// Mantém corrida_view (o modelo de leitura de /corridas) em dia com as tabelas normalizadas. Cada método roda
+// na transação de quem escreveu, então a cópia e a fonte fazem commit (ou rollback) juntas. verificar()
+// compara tudo com a fonte e corrige o que divergir, para dados gravados fora da aplicação.
+@Service
+@Timed("f1.service")
+@RequiredArgsConstructor
+public class CorridaViewService {
+    private final CorridaViewRepository corridaViewRepository;
+    private final CorridaRepository corridaRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public void inserir(UUID corridaId, PistaRow pista, List<PilotoNoPodio> podio) {
+        entityManager.persist(CorridaViewMapper.toView(corridaId, pista, podio));
+    }
+
+    // Importação: inserts em lotes JDBC, como as corridas
+    @Transactional
+    public void inserirTodos(List<CorridaView> views) {
+        for (int i = 0; i < views.size(); i++) {
+            entityManager.persist(views.get(i));
+            if ((i + 1) % Importacao.TAMANHO_LOTE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // Sem a linha (corrida anterior à view e ainda não verificada), ela é criada
+    @Transactional
+    public void atualizar(UUID corridaId, PistaRow pista, List<PilotoNoPodio> podio) {
+        corridaViewRepository.findById(corridaId).ifPresentOrElse(
+                view -> CorridaViewMapper.atualizar(view, pista, podio),
+                () -> inserir(corridaId, pista, podio));
+    }
+
+    @Transactional
+    public void excluir(Collection<UUID> corridaIds) {
+        corridaViewRepository.deleteByIds(corridaIds);
+    }
+
+    // Um UPDATE nas corridas da pista
+    @Transactional
+    public void pistaAlterada(PistaRow pista) {
+        corridaViewRepository.atualizarPista(pista.id(), pista.distancia(), pista.dificuldade(), pista.paisId(),
+                pista.paisNome(), Normalizador.normalizar(pista.paisNome()));
+    }
+
+    // Um UPDATE nas corridas das pistas do país
+    @Transactional
+    public void paisAlterado(UUID paisId, String nome) {
+        corridaViewRepository.atualizarPais(paisId, nome, Normalizador.normalizar(nome));
+    }
+
+    // O piloto está dentro do JSON do pódio: as linhas dele são carregadas e reescritas (dirty checking)
+    @Transactional
+    public void pilotoAlterado(Piloto piloto) {
+        PilotoNoPodio novo = CorridaViewMapper.piloto(piloto);
+        List<UUID> ids = corridaRepository.findIdsByPiloto(piloto.getId());
+        for (int i = 0; i < ids.size(); i += Importacao.IDS_POR_CONSULTA) {
+            for (CorridaView view : corridaViewRepository.findAllById(
+                    ids.subList(i, Math.min(i + Importacao.IDS_POR_CONSULTA, ids.size())))) {
+                view.setPodio(view.getPodio().stream()
+                        .map(p -> p.id().equals(novo.id()) ? novo : p)
+                        .toList());
+            }
+        }
+    }
+
+    // Percorre as corridas por cursor, em blocos de IDS_POR_CONSULTA: recria as linhas que faltam, corrige as
+    // divergentes e, no fim, remove as de corridas que não existem mais
+    @Transactional
+    public VerificacaoViewResponseDTO verificar() {
+        long verificadas = 0;
+        long corrigidas = 0;
+        Limit bloco = Limit.of(Importacao.IDS_POR_CONSULTA);
+        List<CorridaRow> corridas = corridaRepository.findAllByOrderByIdAsc(bloco);
+        while (!corridas.isEmpty()) {
+            List<UUID> ids = corridas.stream().map(CorridaRow::id).toList();
+            Map<UUID, List<PilotoNoPodio>> podios = corridaRepository.findPodios(ids).stream()
+                    .collect(groupingBy(PodioRow::corridaId, mapping(CorridaViewMapper::piloto, toList())));
+            Map<UUID, CorridaView> views = corridaViewRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(CorridaView::getId, Function.identity()));
+            for (CorridaRow corrida : corridas) {
+                List<PilotoNoPodio> podio = podios.getOrDefault(corrida.id(), List.of());
+                CorridaView view = views.get(corrida.id());
+                if (view == null) {
+                    entityManager.persist(CorridaViewMapper.toView(corrida.id(), corrida.pista(), podio));
+                    corrigidas++;
+                } else if (CorridaViewMapper.atualizar(view, corrida.pista(), podio)) {
+                    corrigidas++;
+                }
+            }
+            verificadas += corridas.size();
+            entityManager.flush();
+            entityManager.clear();
+            corridas = corridaRepository.findByIdGreaterThanOrderByIdAsc(ids.get(ids.size() - 1), bloco);
+        }
+        long removidas = corridaViewRepository.deleteOrfas();
+        return new VerificacaoViewResponseDTO(verificadas, corrigidas, removidas);
+    }
+}
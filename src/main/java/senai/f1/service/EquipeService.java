@@ -0,0 +1,33 @@
+package senai.f1.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import senai.f1.dtos.response.DesempenhoEquipeResponseDTO;
+import senai.f1.mappers.DesempenhoMapper;
+import senai.f1.model.Normalizador;
+import senai.f1.repository.CampeonatoRepository;
+import senai.f1.repository.CorridaRepository;
+
+// Relatórios por equipe (o campo equipe dos pilotos). Os números saem de GROUP BY no banco, sem carregar
+// campeonatos nem corridas.
+@Service
+@Timed("f1.service")
+@RequiredArgsConstructor
+public class EquipeService {
+    private final CampeonatoRepository campeonatoRepository;
+    private final CorridaRepository corridaRepository;
+
+    // Três agregações, qualquer que seja o número de campeonatos e corridas; equipe sem pódio vem zerada
+    @Transactional
+    public DesempenhoEquipeResponseDTO desempenho(String equipe) {
+        String normalizada = Normalizador.normalizar(equipe);
+        return DesempenhoMapper.toDTO(
+                equipe,
+                campeonatoRepository.findPodiosDaEquipePorCampeonato(normalizada),
+                corridaRepository.findPodiosDaEquipePorDificuldade(normalizada),
+                corridaRepository.findPodiosDaEquipePorPais(normalizada)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package senai.f1.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import senai.f1.configuration.CacheConfig;
+import senai.f1.dtos.response.EstatisticasPilotoResponseDTO;
+import senai.f1.mappers.EstatisticasPilotoMapper;
+import senai.f1.model.Piloto;
+import senai.f1.repository.CorridaRepository;
+import senai.f1.repository.PilotoRepository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+// Estatísticas da página do piloto, agregadas no banco e guardadas em cache por piloto.
+// CorridaService invalida os pilotos do pódio que grava; exclusões de corridas e de pilotos e
+// alterações de piloto, pista ou país (equipe, distância, nome) esvaziam o cache inteiro.
+@Service
+@Timed("f1.service")
+@RequiredArgsConstructor
+public class EstatisticasPilotoService {
+    private final PilotoRepository pilotoRepository;
+    private final CorridaRepository corridaRepository;
+    private final CacheManager cacheManager;
+
+    // O piloto e três agregações (por posição, por país e contra os companheiros de equipe)
+    @Cacheable(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, key = "#id")
+    @Transactional
+    public EstatisticasPilotoResponseDTO estatisticas(UUID id) {
+        Piloto piloto = pilotoRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Piloto não encontrado"));
+        return EstatisticasPilotoMapper.toDTO(
+                piloto,
+                corridaRepository.findPosicoesDoPiloto(id),
+                corridaRepository.findCorridasDoPilotoPorPais(id),
+                corridaRepository.findDuelosDoPiloto(id)
+        );
+    }
+
+    // Os companheiros que dividem um pódio também estão nele, então invalidar o pódio basta para os duelos.
+    // O cache é transacional (CacheConfig): a remoção espera o commit da gravação.
+    public void invalidar(Collection<UUID> pilotos) {
+        Cache cache = cacheManager.getCache(CacheConfig.ESTATISTICAS_PILOTO);
+        if (cache != null) {
+            pilotos.forEach(cache::evict);
+        }
+    }
+}
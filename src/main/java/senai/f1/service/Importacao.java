@@ -0,0 +1,104 @@
+package senai.f1.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import senai.f1.dtos.response.ImportacaoErroDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Acumula as entidades válidas e os erros (por índice do registro) de uma importação em lote.
+// A gravação usa o batching JDBC do Hibernate: flush/clear a cada TAMANHO_LOTE inserts.
+final class Importacao<E> {
+
+    static final int MAXIMO_REGISTROS = 10_000;
+    // Igual a spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int TAMANHO_LOTE = 50;
+    // Quantidade de ids por consulta "in (...)", abaixo do limite de parâmetros do driver
+    static final int IDS_POR_CONSULTA = 1_000;
+
+    private final int recebidos;
+    private final List<E> validos = new ArrayList<>();
+    private final List<ImportacaoErroDTO> erros = new ArrayList<>();
+
+    private Importacao(int recebidos) {
+        this.recebidos = recebidos;
+    }
+
+    static <E> Importacao<E> de(List<?> registros) {
+        if (registros == null || registros.isEmpty()) {
+            throw new RuntimeException("Nenhum registro enviado");
+        }
+        if (registros.size() > MAXIMO_REGISTROS) {
+            throw new RuntimeException("Máximo de " + MAXIMO_REGISTROS + " registros por importação");
+        }
+        return new Importacao<>(registros.size());
+    }
+
+    // Resolve quais ids existem com poucas consultas set-based
+    static Set<UUID> existentes(Collection<UUID> ids, Function<Collection<UUID>, List<UUID>> consulta) {
+        List<UUID> distintos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Set<UUID> encontrados = new HashSet<>();
+        for (int i = 0; i < distintos.size(); i += IDS_POR_CONSULTA) {
+            encontrados.addAll(consulta.apply(distintos.subList(i, Math.min(i + IDS_POR_CONSULTA, distintos.size()))));
+        }
+        return encontrados;
+    }
+
+    // Como existentes, trazendo o registro de cada id encontrado
+    static <T> Map<UUID, T> porId(Collection<UUID> ids, Function<Collection<UUID>, List<T>> consulta,
+                                  Function<T, UUID> id) {
+        List<UUID> distintos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<UUID, T> encontrados = new HashMap<>();
+        for (int i = 0; i < distintos.size(); i += IDS_POR_CONSULTA) {
+            consulta.apply(distintos.subList(i, Math.min(i + IDS_POR_CONSULTA, distintos.size())))
+                    .forEach(r -> encontrados.put(id.apply(r), r));
+        }
+        return encontrados;
+    }
+
+    // As mesmas regras de Bean Validation que o @Valid aplica no create, registro a registro; vazio quando válido
+    static String violacoes(Validator validator, Object registro) {
+        return validator.validate(registro).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    void aceitar(E entidade) {
+        validos.add(entidade);
+    }
+
+    void rejeitar(int indice, String mensagem) {
+        erros.add(new ImportacaoErroDTO(indice, mensagem));
+    }
+
+    ImportacaoResponseDTO gravar(EntityManager entityManager) {
+        for (int i = 0; i < validos.size(); i++) {
+            entityManager.persist(validos.get(i));
+            if ((i + 1) % TAMANHO_LOTE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return new ImportacaoResponseDTO(recebidos, validos.size(), erros);
+    }
+
+    // Entidades aceitas; depois de gravar já têm id (mas estão desanexadas)
+    List<E> gravados() {
+        return validos;
+    }
+}
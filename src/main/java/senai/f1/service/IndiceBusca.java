@@ -0,0 +1,152 @@
+package senai.f1.service;
+
+import senai.f1.dtos.response.ResultadoBuscaDTO;
+import senai.f1.model.Normalizador;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Índice invertido de trigramas em memória para a busca aproximada. Cada texto indexado (um campo de um
+// registro) é comparado sem acentos e em minúsculas; cada palavra é quebrada em trigramas com dois espaços
+// antes e um depois, como no pg_trgm, então os primeiros trigramas também servem para busca por prefixo.
+// Leituras não bloqueiam (mapas concorrentes); escritas são serializadas e trocam um documento por vez.
+final class IndiceBusca {
+
+    // Abaixo disso a semelhança entre os trigramas é considerada ruído
+    static final double SEMELHANCA_MINIMA = 0.3;
+
+    private static final double EXATO = 3.0;
+    private static final double PREFIXO = 2.0;
+
+    private final Map<Chave, Documento> documentos = new ConcurrentHashMap<>();
+    private final Map<String, Set<Chave>> trigramas = new ConcurrentHashMap<>();
+
+    record Chave(String tipo, UUID id, String campo) { }
+
+    private record Documento(Chave chave, String texto, String dobrado, String[] palavras, Set<String> trigramas) { }
+
+    // Texto nulo ou vazio tira o campo do índice
+    synchronized void indexar(String tipo, UUID id, String campo, String texto) {
+        Chave chave = new Chave(tipo, id, campo);
+        remover(chave);
+        String dobrado = Normalizador.semAcentos(texto);
+        if (dobrado == null || dobrado.isBlank()) {
+            return;
+        }
+        Documento documento = new Documento(chave, texto.trim(), dobrado, palavras(dobrado), trigramas(dobrado));
+        documentos.put(chave, documento);
+        documento.trigramas().forEach(t -> trigramas.computeIfAbsent(t, k -> ConcurrentHashMap.newKeySet()).add(chave));
+    }
+
+    synchronized void remover(String tipo, UUID id, String campo) {
+        remover(new Chave(tipo, id, campo));
+    }
+
+    synchronized void limpar() {
+        documentos.clear();
+        trigramas.clear();
+    }
+
+    int tamanho() {
+        return documentos.size();
+    }
+
+    // Relevância: 3 para o texto igual à consulta, 2 + semelhança quando o texto ou uma das palavras começa
+    // com a consulta e só a semelhança de trigramas (Jaccard) no resto. Cada registro aparece uma vez, pelo
+    // campo que casou melhor.
+    List<ResultadoBuscaDTO> buscar(String consulta, int limite) {
+        String dobrado = Normalizador.semAcentos(consulta);
+        if (dobrado == null || dobrado.isBlank()) {
+            return List.of();
+        }
+        Set<String> daConsulta = trigramas(dobrado);
+        Map<Chave, Integer> comuns = new HashMap<>();
+        for (String trigrama : daConsulta) {
+            Set<Chave> chaves = trigramas.get(trigrama);
+            if (chaves != null) {
+                chaves.forEach(c -> comuns.merge(c, 1, Integer::sum));
+            }
+        }
+
+        Map<UUID, ResultadoBuscaDTO> melhores = new HashMap<>();
+        comuns.forEach((chave, emComum) -> {
+            Documento documento = documentos.get(chave);
+            if (documento == null) {
+                return;
+            }
+            double semelhanca = (double) emComum / (daConsulta.size() + documento.trigramas().size() - emComum);
+            double relevancia;
+            if (documento.dobrado().equals(dobrado)) {
+                relevancia = EXATO;
+            } else if (comecaCom(documento, dobrado)) {
+                relevancia = PREFIXO + semelhanca;
+            } else if (semelhanca >= SEMELHANCA_MINIMA) {
+                relevancia = semelhanca;
+            } else {
+                return;
+            }
+            ResultadoBuscaDTO resultado = new ResultadoBuscaDTO(chave.tipo(), chave.id(), documento.texto(),
+                    chave.campo(), relevancia);
+            melhores.merge(chave.id(), resultado, (a, b) -> a.relevancia() >= b.relevancia() ? a : b);
+        });
+
+        List<ResultadoBuscaDTO> resultados = new ArrayList<>(melhores.values());
+        resultados.sort(Comparator.comparingDouble(ResultadoBuscaDTO::relevancia).reversed()
+                .thenComparing(ResultadoBuscaDTO::texto)
+                .thenComparing(ResultadoBuscaDTO::id));
+        return resultados.size() > limite ? List.copyOf(resultados.subList(0, limite)) : resultados;
+    }
+
+    private void remover(Chave chave) {
+        Documento anterior = documentos.remove(chave);
+        if (anterior == null) {
+            return;
+        }
+        for (String trigrama : anterior.trigramas()) {
+            Set<Chave> chaves = trigramas.get(trigrama);
+            if (chaves != null) {
+                chaves.remove(chave);
+                if (chaves.isEmpty()) {
+                    trigramas.remove(trigrama);
+                }
+            }
+        }
+    }
+
+    private static boolean comecaCom(Documento documento, String consulta) {
+        if (documento.dobrado().startsWith(consulta)) {
+            return true;
+        }
+        for (String palavra : documento.palavras()) {
+            if (palavra.startsWith(consulta)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] palavras(String dobrado) {
+        return dobrado.split("[^\\p{L}\\p{N}]+");
+    }
+
+    static Set<String> trigramas(String dobrado) {
+        Set<String> resultado = new HashSet<>();
+        for (String palavra : palavras(dobrado)) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            String comMargem = "  " + palavra + " ";
+            for (int i = 0; i + 3 <= comMargem.length(); i++) {
+                resultado.add(comMargem.substring(i, i + 3));
+            }
+        }
+        return resultado;
+    }
+}
@@ -1,59 +1,104 @@
 package senai.f1.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import senai.f1.configuration.CacheConfig;
 import senai.f1.dtos.request.PaisRequestDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
 import senai.f1.dtos.response.PaisResponseDTO;
 import senai.f1.mappers.PaisMapper;
 import senai.f1.model.Pais;
+import senai.f1.pagination.Cursor;
+import senai.f1.pagination.CursorPage;
 import senai.f1.repository.PaisRepository;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed("f1.service")
 @RequiredArgsConstructor
 public class PaisService {
     private final PaisRepository paisRepository;
+    private final ReferenciaService referenciaService;
+    private final BuscaService buscaService;
+    private final CorridaViewService corridaViewService;
 
     @Transactional
     public PaisResponseDTO create(PaisRequestDTO dto) {
         Pais pais = PaisMapper.toEntity(dto);
         paisRepository.save(pais);
+        buscaService.pais(pais);
         return PaisMapper.toDTO(pais);
     }
 
-    public List<PaisResponseDTO> listAll() {
-        return paisRepository.findAll().stream().map(PaisMapper::toDTO).toList();
+    public CursorPage<PaisResponseDTO> listAll(int limit, String cursor) {
+        int limite = Cursor.limite(limit);
+        List<Pais> paises = cursor == null
+                ? paisRepository.findAllByOrderByIdAsc(Cursor.sonda(limite))
+                : paisRepository.findByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor), Cursor.sonda(limite));
+        return Cursor.page(paises, limite, Pais::getId, PaisMapper::toDTO);
+    }
+
+    // Ids e versões da mesma página de listAll, para o ETag
+    public List<Object[]> versoes(int limit, String cursor) {
+        int limite = Cursor.limite(limit);
+        return cursor == null
+                ? paisRepository.findVersoesByOrderByIdAsc(Cursor.sonda(limite))
+                : paisRepository.findVersoesByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor), Cursor.sonda(limite));
     }
 
     public PaisResponseDTO findById(UUID id) {
-        return paisRepository.findById(id)
-                .map(PaisMapper::toDTO)
+        return referenciaService.pais(id)
                 .orElseThrow(() -> new RuntimeException("Pais não encontrado"));
     }
 
+    // Pistas em cache embutem o país, então também saem, assim como as estatísticas de pilotos (nome do país)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PAISES, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.PAISES_POR_NOME, CacheConfig.PISTAS,
+                    CacheConfig.ESTATISTICAS_PILOTO}, allEntries = true)
+    })
     @Transactional
     public PaisResponseDTO update(UUID id, PaisRequestDTO dto) {
         Pais pais = paisRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Pais não encontrado"));
         pais.setNome(dto.nome());
+        buscaService.pais(pais);
+        corridaViewService.paisAlterado(id, dto.nome());
         return PaisMapper.toDTO(paisRepository.save(pais));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PAISES, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.PAISES_POR_NOME, CacheConfig.PISTAS}, allEntries = true)
+    })
     @Transactional
     public void delete(UUID id) {
-        if (!paisRepository.existsById(id)) {
-            throw new RuntimeException("Pais não encontrado");
+        if (paisRepository.deleteByIds(List.of(id)) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Pais não encontrado");
         }
-        paisRepository.deleteById(id);
+        buscaService.removerPaises(List.of(id));
+    }
+
+    @CacheEvict(cacheNames = {CacheConfig.PAISES, CacheConfig.PAISES_POR_NOME, CacheConfig.PISTAS}, allEntries = true)
+    @Transactional
+    public ExclusaoResponseDTO deleteAllById(List<UUID> ids) {
+        return PorIds.excluir(ids, lote -> {
+            buscaService.removerPaises(lote);
+            return paisRepository.deleteByIds(lote);
+        });
     }
 
     // Consulta customizada
     public PaisResponseDTO findByNome(String nome) {
-        return paisRepository.findByNomeIgnoreCase(nome)
-                .map(PaisMapper::toDTO)
+        return referenciaService.paisPorNome(nome)
                 .orElseThrow(() -> new RuntimeException("Pais não encontrado"));
     }
 }
@@ -1,31 +1,77 @@
 package senai.f1.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import senai.f1.configuration.CacheConfig;
 import senai.f1.dtos.request.PilotoRequestDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
 import senai.f1.dtos.response.PilotoResponseDTO;
 import senai.f1.mappers.PilotoMapper;
+import senai.f1.model.Normalizador;
 import senai.f1.model.Piloto;
+import senai.f1.pagination.Cursor;
+import senai.f1.pagination.CursorPage;
 import senai.f1.repository.PilotoRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed("f1.service")
 @RequiredArgsConstructor
 public class PilotoService {
     private final PilotoRepository pilotoRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final BuscaService buscaService;
+    private final CorridaViewService corridaViewService;
 
     @Transactional
     public PilotoResponseDTO create(PilotoRequestDTO dto) {
         Piloto piloto = PilotoMapper.toEntity(dto);
         pilotoRepository.save(piloto);
+        buscaService.piloto(piloto);
         return PilotoMapper.toDTO(piloto);
     }
 
-    public List<PilotoResponseDTO> listAll() {
-        return pilotoRepository.findAll().stream().map(PilotoMapper::toDTO).toList();
+    @Transactional
+    public ImportacaoResponseDTO importar(List<PilotoRequestDTO> dtos) {
+        Importacao<Piloto> importacao = Importacao.de(dtos);
+        for (int i = 0; i < dtos.size(); i++) {
+            PilotoRequestDTO dto = dtos.get(i);
+            if (dto == null) {
+                importacao.rejeitar(i, "Registro vazio");
+                continue;
+            }
+            String violacoes = Importacao.violacoes(validator, dto);
+            if (!violacoes.isEmpty()) {
+                importacao.rejeitar(i, violacoes);
+                continue;
+            }
+            importacao.aceitar(PilotoMapper.toEntity(dto));
+        }
+        ImportacaoResponseDTO resposta = importacao.gravar(entityManager);
+        importacao.gravados().forEach(buscaService::piloto);
+        return resposta;
+    }
+
+    public CursorPage<PilotoResponseDTO> listAll(int limit, String cursor) {
+        int limite = Cursor.limite(limit);
+        List<Piloto> pilotos = cursor == null
+                ? pilotoRepository.findAllByOrderByIdAsc(Cursor.sonda(limite))
+                : pilotoRepository.findByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor), Cursor.sonda(limite));
+        return Cursor.page(pilotos, limite, Piloto::getId, PilotoMapper::toDTO);
     }
 
     public PilotoResponseDTO findById(UUID id) {
@@ -34,26 +80,55 @@ public class PilotoService {
                 .orElseThrow(() -> new RuntimeException("Piloto não encontrado"));
     }
 
+    @Transactional
+    public List<ItemPorIdDTO<PilotoResponseDTO>> findAllById(List<UUID> ids) {
+        return PorIds.buscar(ids, pilotoRepository::findAllById, Piloto::getId, PilotoMapper::toDTO);
+    }
+
+    // Nome e equipe aparecem nos duelos das estatísticas de outros pilotos
+    @CacheEvict(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, allEntries = true)
     @Transactional
     public PilotoResponseDTO update(UUID id, PilotoRequestDTO dto) {
         Piloto piloto = pilotoRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Piloto não encontrado"));
         piloto.setNome(dto.nome());
         piloto.setEquipe(dto.equipe());
+        buscaService.piloto(piloto);
+        corridaViewService.pilotoAlterado(piloto);
         return PilotoMapper.toDTO(pilotoRepository.save(piloto));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, allEntries = true)
     @Transactional
     public void delete(UUID id) {
-        if (!pilotoRepository.existsById(id)) {
-            throw new RuntimeException("Piloto não encontrado");
+        if (excluir(List.of(id)) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Piloto não encontrado");
+        }
+        buscaService.removerPilotos(List.of(id));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, allEntries = true)
+    @Transactional
+    public ExclusaoResponseDTO deleteAllById(List<UUID> ids) {
+        return PorIds.excluir(ids, lote -> {
+            buscaService.removerPilotos(lote);
+            return excluir(lote);
+        });
+    }
+
+    // Piloto em pódio (corrida_podio, classificacao) não é removido: os resultados e a classificação dos
+    // campeonatos mudariam. A chave estrangeira recusa a exclusão e o cliente recebe 409; as corridas saem antes.
+    private int excluir(Collection<UUID> ids) {
+        try {
+            return pilotoRepository.deleteByIds(ids);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Piloto presente no pódio de corridas", e);
         }
-        pilotoRepository.deleteById(id);
     }
 
     // Consulta customizada
     public List<PilotoResponseDTO> findByEquipe(String equipe) {
-        return pilotoRepository.findByEquipeIgnoreCase(equipe).stream()
+        return pilotoRepository.findByEquipeNormalizada(Normalizador.normalizar(equipe)).stream()
                 .map(PilotoMapper::toDTO).toList();
     }
 }
@@ -1,70 +1,153 @@
 package senai.f1.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import senai.f1.configuration.CacheConfig;
+import senai.f1.dtos.projection.PistaRow;
 import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
+import senai.f1.dtos.response.PaisResponseDTO;
 import senai.f1.dtos.response.PistaResponseDTO;
 import senai.f1.enums.Dificuldade;
 import senai.f1.mappers.PistaMapper;
-import senai.f1.model.Pais;
+import senai.f1.model.Normalizador;
 import senai.f1.model.Pista;
+import senai.f1.pagination.Cursor;
+import senai.f1.pagination.CursorPage;
 import senai.f1.repository.PaisRepository;
 import senai.f1.repository.PistaRepository;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
+@Timed("f1.service")
 @RequiredArgsConstructor
 public class PistaService {
     private final PistaRepository pistaRepository;
     private final PaisRepository paisRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ReferenciaService referenciaService;
+    private final BuscaService buscaService;
+    private final CorridaViewService corridaViewService;
 
     @Transactional
     public PistaResponseDTO create(PistaRequestDTO dto) {
-        Pais pais = paisRepository.findById(dto.paisId())
+        PaisResponseDTO pais = referenciaService.pais(dto.paisId())
                 .orElseThrow(() -> new RuntimeException("Pais não encontrado"));
-        Pista pista = PistaMapper.toEntity(dto, pais);
+        Pista pista = PistaMapper.toEntity(dto, paisRepository.getReferenceById(pais.id()));
         pistaRepository.save(pista);
-        return PistaMapper.toDTO(pista);
+        buscaService.pista(pista.getId(), pais.id());
+        return PistaMapper.toDTO(pista, pais);
     }
 
-    public List<PistaResponseDTO> listAll() {
-        return pistaRepository.findAll().stream().map(PistaMapper::toDTO).toList();
+    @Transactional
+    public ImportacaoResponseDTO importar(List<PistaRequestDTO> dtos) {
+        Importacao<Pista> importacao = Importacao.de(dtos);
+        Set<UUID> paises = Importacao.existentes(
+                dtos.stream().filter(Objects::nonNull).map(PistaRequestDTO::paisId).toList(),
+                paisRepository::findIdsIn);
+        for (int i = 0; i < dtos.size(); i++) {
+            PistaRequestDTO dto = dtos.get(i);
+            String violacoes = dto == null ? "" : Importacao.violacoes(validator, dto);
+            if (dto == null) {
+                importacao.rejeitar(i, "Registro vazio");
+            } else if (!violacoes.isEmpty()) {
+                importacao.rejeitar(i, violacoes);
+            } else if (!paises.contains(dto.paisId())) {
+                importacao.rejeitar(i, "Pais não encontrado");
+            } else if (!dificuldadeValida(dto.dificuldade())) {
+                importacao.rejeitar(i, "Dificuldade inválida");
+            } else {
+                importacao.aceitar(PistaMapper.toEntity(dto, paisRepository.getReferenceById(dto.paisId())));
+            }
+        }
+        ImportacaoResponseDTO resposta = importacao.gravar(entityManager);
+        // o país é uma referência (proxy): ler o id não dispara consulta
+        importacao.gravados().forEach(p -> buscaService.pista(p.getId(), p.getPais().getId()));
+        return resposta;
+    }
+
+    private static boolean dificuldadeValida(String dificuldade) {
+        return Arrays.stream(Dificuldade.values()).anyMatch(d -> d.name().equals(dificuldade));
+    }
+
+    public CursorPage<PistaResponseDTO> listAll(int limit, String cursor) {
+        int limite = Cursor.limite(limit);
+        List<PistaRow> pistas = cursor == null
+                ? pistaRepository.findAllByOrderByIdAsc(Cursor.sonda(limite))
+                : pistaRepository.findByIdGreaterThanOrderByIdAsc(Cursor.decode(cursor), Cursor.sonda(limite));
+        return Cursor.page(pistas, limite, PistaRow::id, PistaMapper::toDTO);
     }
 
     public PistaResponseDTO findById(UUID id) {
-        return pistaRepository.findById(id)
-                .map(PistaMapper::toDTO)
+        return referenciaService.pista(id)
                 .orElseThrow(() -> new RuntimeException("Pista não encontrada"));
     }
 
+    // Multi-get direto no banco (o cache de ReferenciaService é por id): pista e país em uma consulta por bloco
+    @Transactional
+    public List<ItemPorIdDTO<PistaResponseDTO>> findAllById(List<UUID> ids) {
+        return PorIds.buscar(ids, pistaRepository::findAllById, Pista::getId, PistaMapper::toDTO);
+    }
+
+    // Distância e país da pista entram nas estatísticas dos pilotos
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PISTAS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.ESTATISTICAS_PILOTO, allEntries = true)
+    })
     @Transactional
     public PistaResponseDTO update(UUID id, PistaRequestDTO dto) {
         Pista pista = pistaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Pista não encontrada"));
-        Pais pais = paisRepository.findById(dto.paisId())
+        PaisResponseDTO pais = referenciaService.pais(dto.paisId())
                 .orElseThrow(() -> new RuntimeException("Pais não encontrado"));
 
-        pista.setPais(pais);
+        pista.setPais(paisRepository.getReferenceById(pais.id()));
         pista.setDistancia(dto.distancia());
         pista.setDificuldade(Dificuldade.valueOf(dto.dificuldade()));
+        buscaService.pista(id, pais.id());
+        corridaViewService.pistaAlterada(new PistaRow(id, pais.id(), pais.nome(), dto.distancia(),
+                pista.getDificuldade()));
 
-        return PistaMapper.toDTO(pistaRepository.save(pista));
+        return PistaMapper.toDTO(pistaRepository.save(pista), pais);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PISTAS, key = "#id")
     @Transactional
     public void delete(UUID id) {
-        if (!pistaRepository.existsById(id)) {
-            throw new RuntimeException("Pista não encontrada");
+        if (pistaRepository.deleteByIds(List.of(id)) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Pista não encontrada");
         }
-        pistaRepository.deleteById(id);
+        buscaService.removerPistas(List.of(id));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PISTAS, allEntries = true)
+    @Transactional
+    public ExclusaoResponseDTO deleteAllById(List<UUID> ids) {
+        return PorIds.excluir(ids, lote -> {
+            buscaService.removerPistas(lote);
+            return pistaRepository.deleteByIds(lote);
+        });
     }
 
     // Consultas customizadas
     public List<PistaResponseDTO> findByPais(String paisNome) {
-        return pistaRepository.findByPais_NomeIgnoreCase(paisNome).stream()
+        return pistaRepository.findByPaisNomeNormalizado(Normalizador.normalizar(paisNome)).stream()
                 .map(PistaMapper::toDTO).toList();
     }
 
@@ -0,0 +1,64 @@
+package senai.f1.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import senai.f1.dtos.response.ExclusaoResponseDTO;
+import senai.f1.dtos.response.ItemPorIdDTO;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+// Operações por vários ids. A busca (multi-get) consulta os ids distintos em blocos de IDS_POR_CONSULTA, abaixo
+// do limite de parâmetros do driver, e devolve uma entrada por id pedido, na ordem do pedido, marcando os não
+// encontrados. O mapeamento roda dentro da transação do service, com as associações já carregadas pela consulta.
+final class PorIds {
+
+    static final int MAXIMO_IDS = 10_000;
+
+    private PorIds() { }
+
+    static <E, D> List<ItemPorIdDTO<D>> buscar(List<UUID> ids, Function<List<UUID>, List<E>> consulta,
+                                              Function<E, UUID> id, Function<E, D> mapper) {
+        List<UUID> distintos = distintos(ids);
+        Map<UUID, D> encontrados = new HashMap<>();
+        for (int i = 0; i < distintos.size(); i += Importacao.IDS_POR_CONSULTA) {
+            for (E entidade : consulta.apply(bloco(distintos, i))) {
+                encontrados.put(id.apply(entidade), mapper.apply(entidade));
+            }
+        }
+        return ids.stream()
+                .map(i -> encontrados.containsKey(i)
+                        ? new ItemPorIdDTO<>(i, true, encontrados.get(i))
+                        : new ItemPorIdDTO<D>(i, false, null))
+                .toList();
+    }
+
+    // Exclusão em lote: um DELETE ... IN por bloco; a soma das linhas afetadas diz quantos ids existiam
+    static ExclusaoResponseDTO excluir(List<UUID> ids, ToIntFunction<List<UUID>> exclusao) {
+        List<UUID> distintos = distintos(ids);
+        int removidos = 0;
+        for (int i = 0; i < distintos.size(); i += Importacao.IDS_POR_CONSULTA) {
+            removidos += exclusao.applyAsInt(bloco(distintos, i));
+        }
+        return new ExclusaoResponseDTO(distintos.size(), removidos);
+    }
+
+    private static List<UUID> distintos(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nenhum id enviado");
+        }
+        if (ids.size() > MAXIMO_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Máximo de " + MAXIMO_IDS + " ids por consulta");
+        }
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static List<UUID> bloco(List<UUID> distintos, int inicio) {
+        return distintos.subList(inicio, Math.min(inicio + Importacao.IDS_POR_CONSULTA, distintos.size()));
+    }
+}
@@ -0,0 +1,45 @@
+package senai.f1.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import senai.f1.configuration.CacheConfig;
+import senai.f1.dtos.response.PaisResponseDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
+import senai.f1.mappers.PaisMapper;
+import senai.f1.mappers.PistaMapper;
+import senai.f1.model.Normalizador;
+import senai.f1.repository.PaisRepository;
+import senai.f1.repository.PistaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// Consultas de países e pistas com cache. Guarda DTOs (nunca entidades gerenciadas); quem precisa da
+// entidade para gravar usa getReferenceById. Ausências não são guardadas.
+// A invalidação fica nos update/delete de PaisService e PistaService e, como o cache é transacional
+// (CacheConfig), só acontece no commit: uma leitura antes dele não deixa a linha antiga guardada.
+@Service
+@Timed("f1.service")
+@RequiredArgsConstructor
+public class ReferenciaService {
+    private final PaisRepository paisRepository;
+    private final PistaRepository pistaRepository;
+
+    @Cacheable(cacheNames = CacheConfig.PAISES, key = "#id", unless = "#result == null")
+    public Optional<PaisResponseDTO> pais(UUID id) {
+        return paisRepository.findById(id).map(PaisMapper::toDTO);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PAISES_POR_NOME,
+            key = "T(senai.f1.model.Normalizador).normalizar(#nome)", unless = "#result == null")
+    public Optional<PaisResponseDTO> paisPorNome(String nome) {
+        return paisRepository.findByNomeNormalizado(Normalizador.normalizar(nome)).map(PaisMapper::toDTO);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PISTAS, key = "#id", unless = "#result == null")
+    public Optional<PistaResponseDTO> pista(UUID id) {
+        return pistaRepository.findById(id).map(PistaMapper::toDTO);
+    }
+}
@@ -0,0 +1,7 @@
+-- Versão otimista (@Version) das entidades de domínio; os ETags das respostas são calculados a partir delas.
+-- Linhas existentes começam na versão 0.
+ALTER TABLE pais ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE piloto ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE pista ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE corrida ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE campeonato ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
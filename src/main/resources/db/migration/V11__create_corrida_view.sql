@@ -0,0 +1,28 @@
+-- Modelo de leitura das corridas: uma linha por corrida com pista, país e pódio (em ordem, como JSON).
+-- Mantido pela aplicação a cada escrita; POST /corridas/view/verificar reconstrói as linhas divergentes.
+CREATE TABLE IF NOT EXISTS corrida_view (
+    id UUID PRIMARY KEY,
+    pista_id UUID,
+    distancia DOUBLE PRECISION,
+    dificuldade VARCHAR(255),
+    pais_id UUID,
+    pais_nome VARCHAR(255),
+    pais_nome_normalizado VARCHAR(255),
+    podio JSONB,
+    versao BIGINT NOT NULL DEFAULT 0);
+
+CREATE INDEX IF NOT EXISTS idx_corrida_view_pista_id ON corrida_view (pista_id);
+CREATE INDEX IF NOT EXISTS idx_corrida_view_pais_id ON corrida_view (pais_id);
+CREATE INDEX IF NOT EXISTS idx_corrida_view_pais_nome_normalizado ON corrida_view (pais_nome_normalizado);
+
+-- Carga inicial a partir das tabelas normalizadas
+INSERT INTO corrida_view (id, pista_id, distancia, dificuldade, pais_id, pais_nome, pais_nome_normalizado, podio)
+SELECT c.id, p.id, p.distancia, p.dificuldade, pa.id, pa.nome, pa.nome_normalizado,
+       coalesce((SELECT jsonb_agg(jsonb_build_object('id', x.id, 'nome', x.nome, 'equipe', x.equipe)
+                                  ORDER BY cp.posicao)
+                 FROM corrida_podio cp JOIN piloto x ON x.id = cp.podio_id
+                 WHERE cp.corrida_id = c.id), '[]'::jsonb)
+FROM corrida c
+JOIN pista p ON p.id = c.pista_id
+JOIN pais pa ON pa.id = p.pais_id
+ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,33 @@
+-- Tabelas de domínio no formato em que existiam antes de ficarem versionadas (até então criadas fora do Flyway).
+-- Bancos que já têm essas tabelas não executam esta versão (ver spring.flyway.ignore-migration-patterns);
+-- as alterações seguintes (V7 em diante) valem para os dois casos.
+CREATE TABLE IF NOT EXISTS pais (
+    id UUID PRIMARY KEY,
+    nome VARCHAR(255));
+
+CREATE TABLE IF NOT EXISTS piloto (
+    id UUID PRIMARY KEY,
+    nome VARCHAR(255),
+    equipe VARCHAR(255));
+
+CREATE TABLE IF NOT EXISTS pista (
+    id UUID PRIMARY KEY,
+    pais_id UUID REFERENCES pais(id),
+    distancia DOUBLE PRECISION,
+    dificuldade VARCHAR(255) CHECK (dificuldade IN ('FACIL', 'MEDIO', 'DIFICIL')));
+
+CREATE TABLE IF NOT EXISTS corrida (
+    id UUID PRIMARY KEY,
+    pista_id UUID REFERENCES pista(id));
+
+CREATE TABLE IF NOT EXISTS corrida_podio (
+    corrida_id UUID NOT NULL REFERENCES corrida(id),
+    podio_id UUID NOT NULL REFERENCES piloto(id));
+
+CREATE TABLE IF NOT EXISTS campeonato (
+    id UUID PRIMARY KEY);
+
+CREATE TABLE IF NOT EXISTS campeonato_corridas (
+    campeonato_id UUID NOT NULL REFERENCES campeonato(id),
+    corridas_id UUID NOT NULL REFERENCES corrida(id),
+    CONSTRAINT uk_campeonato_corridas_corridas_id UNIQUE (corridas_id));
@@ -0,0 +1,34 @@
+-- Posição no pódio (0 = vencedor). Pódios já gravados mantêm a ordem física das linhas.
+ALTER TABLE corrida_podio ADD COLUMN IF NOT EXISTS posicao INTEGER;
+
+UPDATE corrida_podio cp
+SET posicao = o.posicao
+FROM (SELECT ctid, row_number() OVER (PARTITION BY corrida_id ORDER BY ctid) - 1 AS posicao
+      FROM corrida_podio) o
+WHERE cp.ctid = o.ctid AND cp.posicao IS NULL;
+
+ALTER TABLE corrida_podio ALTER COLUMN posicao SET NOT NULL;
+
+CREATE TABLE IF NOT EXISTS classificacao (
+    id UUID PRIMARY KEY,
+    campeonato_id UUID NOT NULL REFERENCES campeonato(id),
+    piloto_id UUID NOT NULL REFERENCES piloto(id),
+    pontos INTEGER NOT NULL,
+    vitorias INTEGER NOT NULL,
+    podios INTEGER NOT NULL,
+    CONSTRAINT uk_classificacao_campeonato_piloto UNIQUE (campeonato_id, piloto_id));
+
+CREATE INDEX IF NOT EXISTS idx_classificacao_campeonato_pontos
+    ON classificacao (campeonato_id, pontos DESC, vitorias DESC);
+
+-- Carga inicial a partir dos campeonatos existentes; dali em diante a tabela é mantida pela aplicação
+INSERT INTO classificacao (id, campeonato_id, piloto_id, pontos, vitorias, podios)
+SELECT gen_random_uuid(), cc.campeonato_id, cp.podio_id,
+       SUM(CASE cp.posicao WHEN 0 THEN 25 WHEN 1 THEN 18 WHEN 2 THEN 15 WHEN 3 THEN 12 WHEN 4 THEN 10
+                           WHEN 5 THEN 8 WHEN 6 THEN 6 WHEN 7 THEN 4 WHEN 8 THEN 2 WHEN 9 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN cp.posicao = 0 THEN 1 ELSE 0 END),
+       COUNT(*)
+FROM campeonato_corridas cc
+JOIN corrida_podio cp ON cp.corrida_id = cc.corridas_id
+GROUP BY cc.campeonato_id, cp.podio_id
+ON CONFLICT (campeonato_id, piloto_id) DO NOTHING;
@@ -0,0 +1,13 @@
+-- Colunas de busca normalizadas (trim + minúsculas), preenchidas pela aplicação em @PrePersist/@PreUpdate.
+-- As consultas comparam por igualdade nelas, o que um índice B-tree comum atende.
+ALTER TABLE pais ADD COLUMN IF NOT EXISTS nome_normalizado VARCHAR(255);
+UPDATE pais SET nome_normalizado = lower(trim(nome)) WHERE nome_normalizado IS NULL;
+CREATE INDEX IF NOT EXISTS idx_pais_nome_normalizado ON pais (nome_normalizado);
+
+ALTER TABLE piloto ADD COLUMN IF NOT EXISTS equipe_normalizada VARCHAR(255);
+UPDATE piloto SET equipe_normalizada = lower(trim(equipe)) WHERE equipe_normalizada IS NULL;
+CREATE INDEX IF NOT EXISTS idx_piloto_equipe_normalizada ON piloto (equipe_normalizada);
+
+-- Corridas e pistas por país chegam ao país pela FK; sem índice a junção percorre a tabela inteira
+CREATE INDEX IF NOT EXISTS idx_pista_pais_id ON pista (pais_id);
+CREATE INDEX IF NOT EXISTS idx_corrida_pista_id ON corrida (pista_id);
@@ -0,0 +1,17 @@
+-- Chaves primárias compostas nas tabelas de junção (só quando a tabela ainda não tem uma)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'corrida_podio'::regclass AND contype = 'p') THEN
+        ALTER TABLE corrida_podio ADD CONSTRAINT pk_corrida_podio PRIMARY KEY (corrida_id, posicao);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'campeonato_corridas'::regclass AND contype = 'p') THEN
+        ALTER TABLE campeonato_corridas ADD CONSTRAINT pk_campeonato_corridas PRIMARY KEY (campeonato_id, corridas_id);
+    END IF;
+END $$;
+
+-- Caminho inverso das junções: piloto -> corridas (pódio) e corrida -> campeonato
+CREATE INDEX IF NOT EXISTS idx_corrida_podio_podio_id ON corrida_podio (podio_id, corrida_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_campeonato_corridas_corridas_id ON campeonato_corridas (corridas_id);
+
+-- Busca de corridas por nome do piloto
+CREATE INDEX IF NOT EXISTS idx_piloto_nome ON piloto (nome);
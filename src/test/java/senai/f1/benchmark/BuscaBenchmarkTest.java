@@ -0,0 +1,98 @@
+package senai.f1.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Normalizador;
+import senai.f1.model.Pais;
+import senai.f1.repository.PaisRepository;
+import senai.f1.service.BuscaService;
+import senai.f1.support.DadosTeste;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Latência de GET /buscar no índice em memória, com um catálogo maior que o real (250 países, 500 pistas e
+// 1.000 pilotos), e a de uma busca exata por nome no banco como referência.
+// Roda com: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BuscaBenchmarkTest {
+
+    private static final int PAISES = 250;
+    private static final int PISTAS = 500;
+    private static final int PILOTOS = 1_000;
+    private static final int AQUECIMENTO = 2_000;
+    private static final int MEDICOES = 10_000;
+
+    // Exata, sem acento, prefixo, erro de digitação, equipe e uma que não casa com nada
+    private static final String[] CONSULTAS = {
+            "São Tomé 17", "sao tome 17", "cost", "alemnha 42", "equipe 33", "piloto 999", "xyzw"
+    };
+
+    @Autowired
+    private BuscaService buscaService;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void popular() {
+        transactionTemplate.executeWithoutResult(s -> {
+            String[] nomes = {"São Tomé", "Costa do Marfim", "Alemanha", "Itália", "Côte d'Ivoire"};
+            Pais[] paises = new Pais[PAISES];
+            for (int i = 0; i < PAISES; i++) {
+                paises[i] = DadosTeste.pais(entityManager, nomes[i % nomes.length] + " " + i);
+            }
+            for (int i = 0; i < PISTAS; i++) {
+                DadosTeste.pista(entityManager, paises[i % PAISES], 5.0, Dificuldade.MEDIO);
+            }
+            for (int i = 0; i < PILOTOS; i++) {
+                DadosTeste.piloto(entityManager, "Piloto " + i, "Equipe " + i / 2);
+            }
+        });
+        // os dados entraram direto pelo EntityManager, sem passar pelos services
+        buscaService.reconstruir();
+    }
+
+    @Test
+    void buscaNoIndiceRespondeEmMenosDeUmMilissegundo() {
+        Histograma indice = medir(c -> buscaService.buscar(c, 20));
+        Histograma banco = medir(c -> paisRepository.findByNomeNormalizado(Normalizador.normalizar(c)));
+
+        System.out.printf("GET /buscar (índice): p50=%.3fms p99=%.3fms [%s]%n",
+                indice.percentil(50), indice.percentil(99), indice.faixas());
+        System.out.printf("busca exata no banco: p50=%.3fms p99=%.3fms [%s]%n",
+                banco.percentil(50), banco.percentil(99), banco.faixas());
+        assertTrue(indice.percentil(50) < 1.0);
+    }
+
+    private static Histograma medir(Consumer<String> busca) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            busca.accept(CONSULTAS[i % CONSULTAS.length]);
+        }
+        Histograma histograma = new Histograma();
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            busca.accept(CONSULTAS[i % CONSULTAS.length]);
+            histograma.registrar((System.nanoTime() - inicio) / 1_000, true);
+        }
+        return histograma;
+    }
+}
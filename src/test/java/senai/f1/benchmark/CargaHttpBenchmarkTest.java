@@ -0,0 +1,245 @@
+package senai.f1.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.Piloto;
+import senai.f1.support.DadosTeste;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Carga HTTP local: sobe a aplicação no perfil test (H2), popula temporadas e dispara tráfego misto de
+// leitura/escrita a partir de vários clientes concorrentes. Falha se alguma rota passar do p99 orçado
+// ou responder com erro.
+// Roda com: mvn test -Pbenchmark -Dtest=CargaHttpBenchmarkTest
+//   -Dcarga.clientes=<4 x núcleos> -Dcarga.temporadas=5 -Dcarga.aquecimento=5 -Dcarga.duracao=30 (segundos)
+//   -Dcarga.orcamento.<rota>=<ms> substitui o orçamento de p99 de uma rota (ex.: -Dcarga.orcamento.corridas=150)
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "spring.jpa.properties.hibernate.generate_statistics=false"})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CargaHttpBenchmarkTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes",
+            4 * Runtime.getRuntime().availableProcessors());
+    private static final int TEMPORADAS = Integer.getInteger("carga.temporadas", 5);
+    private static final long AQUECIMENTO = Long.getLong("carga.aquecimento", 5);
+    private static final long DURACAO = Long.getLong("carga.duracao", 30);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final List<UUID> corridas = new ArrayList<>();
+    private final List<UUID> campeonatos = new ArrayList<>();
+    private final List<UUID> pistas = new ArrayList<>();
+    private final List<UUID> pilotos = new ArrayList<>();
+    private final List<String> nomesPilotos = new ArrayList<>();
+    private final List<String> equipes = new ArrayList<>();
+    private final List<String> paises = new ArrayList<>();
+    // Corridas criadas durante a carga; os PUTs mexem só nelas
+    private final List<UUID> criadas = new CopyOnWriteArrayList<>();
+
+    private List<Operacao> operacoes;
+    private int pesoTotal;
+
+    // nome (usado em carga.orcamento.<nome>), rota para o relatório, peso no sorteio, orçamento de p99 em ms
+    // e a requisição, ou null quando a rota ainda não tem o que exercitar
+    private record Operacao(String nome, String rota, int peso, long orcamentoMs,
+                            Function<ThreadLocalRandom, HttpRequest> requisicao) { }
+
+    @BeforeAll
+    void popular() {
+        transactionTemplate.executeWithoutResult(s -> {
+            for (int i = 0; i < TEMPORADAS; i++) {
+                Campeonato campeonato = DadosTeste.temporada(entityManager, "Carga " + i, 24);
+                campeonatos.add(campeonato.getId());
+                for (Corrida corrida : campeonato.getCorridas()) {
+                    corridas.add(corrida.getId());
+                    pistas.add(corrida.getPista().getId());
+                    paises.add(corrida.getPista().getPais().getNome());
+                }
+                for (Piloto piloto : campeonato.getCorridas().get(0).getPodio()) {
+                    pilotos.add(piloto.getId());
+                    nomesPilotos.add(piloto.getNome());
+                    equipes.add(piloto.getEquipe());
+                }
+            }
+        });
+        operacoes = List.of(
+                new Operacao("corridas", "GET /corridas", 15, 250, r -> get("/corridas?limit=50")),
+                new Operacao("corrida", "GET /corridas/{id}", 10, 100, r -> get("/corridas/" + um(r, corridas))),
+                new Operacao("campeonatos", "GET /campeonatos", 10, 400, r -> get("/campeonatos?limit=20")),
+                new Operacao("campeonato", "GET /campeonatos/{id}", 10, 250,
+                        r -> get("/campeonatos/" + um(r, campeonatos))),
+                new Operacao("classificacao", "GET /campeonatos/{id}/classificacao", 5, 100,
+                        r -> get("/campeonatos/" + um(r, campeonatos) + "/classificacao")),
+                new Operacao("buscar.corridas.piloto", "GET /corridas/buscar/piloto", 8, 250,
+                        r -> get("/corridas/buscar/piloto?nome=" + url(um(r, nomesPilotos)))),
+                new Operacao("buscar.corridas.pais", "GET /corridas/buscar/pais", 8, 100,
+                        r -> get("/corridas/buscar/pais?nome=" + url(um(r, paises)))),
+                new Operacao("buscar.campeonatos.equipe", "GET /campeonatos/buscar/equipe", 5, 400,
+                        r -> get("/campeonatos/buscar/equipe?nome=" + url(um(r, equipes)))),
+                new Operacao("buscar.pistas.pais", "GET /pistas/buscar/pais", 5, 100,
+                        r -> get("/pistas/buscar/pais?nome=" + url(um(r, paises)))),
+                new Operacao("buscar.pilotos.equipe", "GET /pilotos/buscar/equipe", 5, 100,
+                        r -> get("/pilotos/buscar/equipe?nome=" + url(um(r, equipes)))),
+                new Operacao("criar.corrida", "POST /corridas", 12, 250,
+                        r -> enviar("POST", "/corridas", corrida(r))),
+                new Operacao("atualizar.corrida", "PUT /corridas/{id}", 7, 250,
+                        r -> criadas.isEmpty() ? null
+                                : enviar("PUT", "/corridas/" + um(r, criadas), corrida(r))));
+        pesoTotal = operacoes.stream().mapToInt(Operacao::peso).sum();
+    }
+
+    @Test
+    void rotasFicamDentroDoOrcamentoSobCarga() throws Exception {
+        executar(AQUECIMENTO, null);
+        Map<Operacao, Histograma> histogramas = new LinkedHashMap<>();
+        operacoes.forEach(o -> histogramas.put(o, new Histograma()));
+        executar(DURACAO, histogramas);
+
+        List<String> violacoes = new ArrayList<>();
+        System.out.printf("%d clientes, %d s, %d temporadas%n", CLIENTES, DURACAO, TEMPORADAS);
+        System.out.printf("%-36s %8s %8s %8s %8s %8s %8s %6s %8s%n",
+                "rota", "req", "req/s", "p50", "p90", "p99", "max", "erros", "limite");
+        histogramas.forEach((operacao, h) -> {
+            long orcamento = Long.getLong("carga.orcamento." + operacao.nome(), operacao.orcamentoMs());
+            double p99 = h.percentil(99);
+            System.out.printf("%-36s %8d %8.1f %8.1f %8.1f %8.1f %8.1f %6d %8d%n", operacao.rota(), h.total(),
+                    h.total() / (double) DURACAO, h.percentil(50), h.percentil(90), p99, h.percentil(100),
+                    h.erros(), orcamento);
+            System.out.printf("    %s%n", h.faixas());
+            if (p99 > orcamento) {
+                violacoes.add(String.format("%s: p99 %.1f ms > %d ms", operacao.rota(), p99, orcamento));
+            }
+            if (h.erros() > 0) {
+                violacoes.add(String.format("%s: %d respostas com erro", operacao.rota(), h.erros()));
+            }
+        });
+        assertTrue(violacoes.isEmpty(), String.join("\n", violacoes));
+    }
+
+    // Cada cliente repete requisições sorteadas até o prazo; sem histogramas é só aquecimento.
+    // Operação sem requisição (PUT antes de algum POST ter criado corrida) não entra na amostra.
+    private void executar(long segundos, Map<Operacao, Histograma> histogramas) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        ExecutorService clientes = Executors.newFixedThreadPool(CLIENTES);
+        for (int i = 0; i < CLIENTES; i++) {
+            clientes.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < prazo) {
+                    Operacao operacao = sortear(random);
+                    HttpRequest requisicao = operacao.requisicao().apply(random);
+                    if (requisicao == null) {
+                        continue;
+                    }
+                    long inicio = System.nanoTime();
+                    boolean sucesso = enviar(requisicao);
+                    long micros = (System.nanoTime() - inicio) / 1000;
+                    if (histogramas != null) {
+                        histogramas.get(operacao).registrar(micros, sucesso);
+                    }
+                }
+                return null;
+            });
+        }
+        clientes.shutdown();
+        clientes.awaitTermination(segundos + 60, TimeUnit.SECONDS);
+    }
+
+    private Operacao sortear(ThreadLocalRandom random) {
+        int sorteio = random.nextInt(pesoTotal);
+        for (Operacao operacao : operacoes) {
+            sorteio -= operacao.peso();
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        return operacoes.get(operacoes.size() - 1);
+    }
+
+    private boolean enviar(HttpRequest requisicao) {
+        try {
+            HttpResponse<String> resposta = http.send(requisicao, HttpResponse.BodyHandlers.ofString());
+            boolean sucesso = resposta.statusCode() / 100 == 2;
+            if (sucesso && requisicao.method().equals("POST")) {
+                criadas.add(UUID.fromString(objectMapper.readTree(resposta.body()).get("id").asText()));
+            }
+            return sucesso;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private String corrida(ThreadLocalRandom random) {
+        List<UUID> podio = new ArrayList<>(pilotos.subList(0, 3));
+        Collections.shuffle(podio, random);
+        return String.format("{\"pistaId\":\"%s\",\"podioIds\":[\"%s\",\"%s\",\"%s\"]}",
+                um(random, pistas), podio.get(0), podio.get(1), podio.get(2));
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(uri(caminho)).GET().build();
+    }
+
+    private HttpRequest enviar(String metodo, String caminho, String json) {
+        return HttpRequest.newBuilder(uri(caminho))
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+
+    private static <T> T um(ThreadLocalRandom random, List<T> lista) {
+        return lista.get(random.nextInt(lista.size()));
+    }
+
+    private static String url(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+}
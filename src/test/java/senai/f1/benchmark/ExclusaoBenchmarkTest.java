@@ -0,0 +1,102 @@
+package senai.f1.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Pais;
+import senai.f1.model.Pista;
+import senai.f1.repository.CorridaRepository;
+import senai.f1.service.CorridaService;
+import senai.f1.support.DadosTeste;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Linhas por segundo ao excluir 10.000 corridas: existsById + deleteById por corrida (como era antes),
+// DELETE /corridas/{id} set-based e DELETE em lote.
+// Roda com: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExclusaoBenchmarkTest {
+
+    private static final int CORRIDAS = 10_000;
+
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private CorridaRepository corridaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<UUID> anteriores;
+    private List<UUID> individuais;
+    private List<UUID> lote;
+
+    @BeforeAll
+    void popular() {
+        anteriores = corridas("Exclusão anterior");
+        individuais = corridas("Exclusão individual");
+        lote = corridas("Exclusão lote");
+    }
+
+    @Test
+    void exclusaoEmLoteSuperaExclusaoPorId() {
+        long inicio = System.nanoTime();
+        for (UUID id : anteriores) {
+            transactionTemplate.executeWithoutResult(s -> {
+                if (corridaRepository.existsById(id)) {
+                    corridaRepository.deleteById(id);
+                }
+            });
+        }
+        double anterior = CORRIDAS / ((System.nanoTime() - inicio) / 1e9);
+
+        inicio = System.nanoTime();
+        individuais.forEach(corridaService::delete);
+        double individual = CORRIDAS / ((System.nanoTime() - inicio) / 1e9);
+
+        inicio = System.nanoTime();
+        int removidos = corridaService.deleteAllById(lote).removidos();
+        double emLote = CORRIDAS / ((System.nanoTime() - inicio) / 1e9);
+
+        System.out.printf("%d corridas: existsById+deleteById=%.0f linhas/s, individual=%.0f linhas/s, " +
+                "lote=%.0f linhas/s (%.1fx)%n", CORRIDAS, anterior, individual, emLote, emLote / anterior);
+        assertEquals(CORRIDAS, removidos);
+        assertTrue(emLote > anterior);
+    }
+
+    private List<UUID> corridas(String nome) {
+        Pista pista = transactionTemplate.execute(s -> {
+            Pais pais = DadosTeste.pais(entityManager, nome);
+            return DadosTeste.pista(entityManager, pais, 5.0, Dificuldade.MEDIO);
+        });
+        List<UUID> podio = transactionTemplate.execute(s -> List.of(
+                DadosTeste.piloto(entityManager, nome + " A", nome).getId(),
+                DadosTeste.piloto(entityManager, nome + " B", nome).getId(),
+                DadosTeste.piloto(entityManager, nome + " C", nome).getId()));
+        corridaService.importar(Collections.nCopies(CORRIDAS, new CorridaRequestDTO(pista.getId(), podio)));
+        return transactionTemplate.execute(s -> entityManager
+                .createQuery("select c.id from Corrida c where c.pista.id = :pista", UUID.class)
+                .setParameter("pista", pista.getId())
+                .getResultList());
+    }
+}
@@ -0,0 +1,112 @@
+package senai.f1.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import senai.f1.service.CorridaService;
+import senai.f1.service.CorridaViewService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Exporta 1.000.000 de corridas (cada uma com um piloto no pódio) e acompanha o heap durante o streaming.
+// Roda com: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportacaoBenchmarkTest {
+
+    private static final int CORRIDAS = 1_000_000;
+    private static final long CRESCIMENTO_MAXIMO = 64L * 1024 * 1024;
+
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private CorridaViewService corridaViewService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void popular() {
+        UUID pais = UUID.randomUUID();
+        UUID pista = UUID.randomUUID();
+        UUID piloto = UUID.randomUUID();
+        jdbcTemplate.update("insert into pais (id, nome, versao) values (?, 'Exportação', 0)", pais);
+        jdbcTemplate.update("insert into pista (id, pais_id, distancia, dificuldade, versao) values (?, ?, 5.0, 'MEDIO', 0)",
+                pista, pais);
+        jdbcTemplate.update("insert into piloto (id, nome, equipe, versao) values (?, 'Piloto Export', 'Equipe Export', 0)",
+                piloto);
+        jdbcTemplate.update("insert into corrida (id, pista_id, versao) select random_uuid(), ?, 0 from system_range(1, ?)",
+                pista, CORRIDAS);
+        jdbcTemplate.update("insert into corrida_podio (corrida_id, podio_id, posicao) select id, ?, 0 from corrida " +
+                "where pista_id = ?", piloto, pista);
+        // as linhas entraram por SQL, então corrida_view é montada pela verificação, como num banco migrado
+        corridaViewService.verificar();
+    }
+
+    @Test
+    void exportacaoMantemHeapEstavel() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        long base = heapAposGc(memoria);
+        long[] pico = {base};
+        long[] linhas = {0};
+        ContadorBytes saida = new ContadorBytes();
+
+        long inicio = System.nanoTime();
+        corridaService.exportar(corrida -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(corrida));
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (++linhas[0] % 100_000 == 0) {
+                pico[0] = Math.max(pico[0], heapAposGc(memoria));
+            }
+        });
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("Exportadas %d corridas (%d MB) em %.1f s; heap base=%d MB, pico=%d MB%n",
+                linhas[0], saida.bytes / (1024 * 1024), segundos, base / (1024 * 1024), pico[0] / (1024 * 1024));
+        assertEquals(CORRIDAS, linhas[0]);
+        assertTrue(pico[0] - base < CRESCIMENTO_MAXIMO, "Heap cresceu durante a exportação");
+    }
+
+    private static long heapAposGc(MemoryMXBean memoria) {
+        System.gc();
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+    private static class ContadorBytes extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
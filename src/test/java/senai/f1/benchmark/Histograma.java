@@ -0,0 +1,61 @@
+package senai.f1.benchmark;
+
+import java.util.Arrays;
+
+// Latências de uma rota (em microssegundos). Guarda todas as amostras: os percentis saem exatos.
+final class Histograma {
+
+    private static final long[] FAIXAS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000};
+
+    private long[] amostras = new long[1024];
+    private int total;
+    private int erros;
+
+    synchronized void registrar(long micros, boolean sucesso) {
+        if (total == amostras.length) {
+            amostras = Arrays.copyOf(amostras, total * 2);
+        }
+        amostras[total++] = micros;
+        if (!sucesso) {
+            erros++;
+        }
+    }
+
+    synchronized int total() {
+        return total;
+    }
+
+    synchronized int erros() {
+        return erros;
+    }
+
+    // Percentil em milissegundos (p entre 0 e 100)
+    synchronized double percentil(double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long[] ordenadas = Arrays.copyOf(amostras, total);
+        Arrays.sort(ordenadas);
+        int indice = (int) Math.ceil(p / 100 * total) - 1;
+        return ordenadas[Math.max(0, indice)] / 1000.0;
+    }
+
+    synchronized String faixas() {
+        int[] contagem = new int[FAIXAS_MS.length + 1];
+        for (int i = 0; i < total; i++) {
+            int faixa = 0;
+            while (faixa < FAIXAS_MS.length && amostras[i] > FAIXAS_MS[faixa] * 1000) {
+                faixa++;
+            }
+            contagem[faixa]++;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < contagem.length; i++) {
+            if (contagem[i] > 0) {
+                sb.append(i < FAIXAS_MS.length ? "<=" + FAIXAS_MS[i] + "ms" : ">" + FAIXAS_MS[i - 1] + "ms")
+                        .append(':').append(contagem[i]).append(' ');
+            }
+        }
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,74 @@
+package senai.f1.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Pista;
+import senai.f1.service.CorridaService;
+import senai.f1.support.DadosTeste;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Linhas por segundo: POST /corridas registro a registro x POST /corridas/bulk.
+// Roda com: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ImportacaoBenchmarkTest {
+
+    private static final int CORRIDAS = 5_000;
+
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<CorridaRequestDTO> dtos;
+
+    @BeforeAll
+    void popular() {
+        dtos = transactionTemplate.execute(s -> {
+            Pista pista = DadosTeste.pista(entityManager, DadosTeste.pais(entityManager, "Importação"), 5.0,
+                    Dificuldade.MEDIO);
+            List<UUID> podio = List.of(
+                    DadosTeste.piloto(entityManager, "Import A", "Import").getId(),
+                    DadosTeste.piloto(entityManager, "Import B", "Import").getId(),
+                    DadosTeste.piloto(entityManager, "Import C", "Import").getId());
+            return Collections.nCopies(CORRIDAS, new CorridaRequestDTO(pista.getId(), podio));
+        });
+    }
+
+    @Test
+    void importacaoEmLoteSuperaCadastroIndividual() {
+        long inicio = System.nanoTime();
+        dtos.forEach(corridaService::create);
+        double individual = CORRIDAS / ((System.nanoTime() - inicio) / 1e9);
+
+        inicio = System.nanoTime();
+        int importados = corridaService.importar(dtos).importados();
+        double lote = CORRIDAS / ((System.nanoTime() - inicio) / 1e9);
+
+        System.out.printf("%d corridas: individual=%.0f linhas/s, lote=%.0f linhas/s (%.1fx)%n",
+                CORRIDAS, individual, lote, lote / individual);
+        assertEquals(CORRIDAS, importados);
+        assertTrue(lote > individual);
+    }
+}
@@ -0,0 +1,74 @@
+package senai.f1.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Executa os benchmarks JMH de senai.f1.benchmark.jmh e grava o resultado em JSON.
+// Roda com: mvn test -Pbenchmark -Dtest=JmhBenchmarkTest
+//   -Djmh.include=<regex>     filtra os benchmarks (padrão: todos do pacote jmh)
+//   -Djmh.resultado=<arquivo> destino do JSON (padrão: target/jmh/resultado.json)
+//   -Djmh.baseline=<arquivo>  JSON de uma execução anterior para comparar score a score
+@Tag("benchmark")
+class JmhBenchmarkTest {
+
+    @Test
+    void executarBenchmarks() throws Exception {
+        Path resultado = Path.of(System.getProperty("jmh.resultado", "target/jmh/resultado.json"));
+        Files.createDirectories(resultado.toAbsolutePath().getParent());
+        Options opcoes = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", "senai\\.f1\\.benchmark\\.jmh\\..*"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultado.toString())
+                .build();
+
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        assertFalse(resultados.isEmpty());
+        String baseline = System.getProperty("jmh.baseline");
+        if (baseline != null) {
+            comparar(Path.of(baseline), resultado);
+        }
+    }
+
+    private static void comparar(Path baseline, Path atual) throws IOException {
+        Map<String, JsonNode> anteriores = porBenchmark(baseline);
+        porBenchmark(atual).forEach((nome, metrica) -> {
+            JsonNode anterior = anteriores.get(nome);
+            double score = metrica.get("score").asDouble();
+            if (anterior == null) {
+                System.out.printf("%s: %.3f %s (sem baseline)%n", nome, score, metrica.get("scoreUnit").asText());
+                return;
+            }
+            double base = anterior.get("score").asDouble();
+            System.out.printf("%s: %.3f -> %.3f %s (%+.1f%%)%n",
+                    nome, base, score, metrica.get("scoreUnit").asText(), (score - base) / base * 100);
+        });
+    }
+
+    // benchmark + parâmetros -> primaryMetric
+    private static Map<String, JsonNode> porBenchmark(Path arquivo) throws IOException {
+        Map<String, JsonNode> metricas = new LinkedHashMap<>();
+        for (JsonNode execucao : new ObjectMapper().readTree(arquivo.toFile())) {
+            String nome = execucao.get("benchmark").asText();
+            JsonNode parametros = execucao.get("params");
+            metricas.put(parametros == null ? nome : nome + " " + parametros, execucao.get("primaryMetric"));
+        }
+        return metricas;
+    }
+}
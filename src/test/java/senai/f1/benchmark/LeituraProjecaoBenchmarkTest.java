@@ -0,0 +1,90 @@
+package senai.f1.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.dtos.projection.CorridaRow;
+import senai.f1.dtos.request.Expansao;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.mappers.CorridaMapper;
+import senai.f1.repository.CorridaRepository;
+import senai.f1.service.CorridaService;
+import senai.f1.support.DadosTeste;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Heap alocado por requisição de GET /corridas (100 itens): entidades + mapper x projeções.
+// Roda com: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeituraProjecaoBenchmarkTest {
+
+    private static final int AQUECIMENTO = 200;
+    private static final int MEDICOES = 500;
+
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private CorridaRepository corridaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<UUID> ids;
+
+    @BeforeAll
+    void popular() {
+        transactionTemplate.executeWithoutResult(s -> DadosTeste.temporada(entityManager, "Benchmark", 100));
+        ids = corridaRepository.findAllByOrderByIdAsc(Limit.of(100)).stream().map(CorridaRow::id).toList();
+    }
+
+    @Test
+    void projecaoAlocaMenosQueEntidades() {
+        long entidades = bytesPorRequisicao(this::viaEntidades);
+        long projecoes = bytesPorRequisicao(() -> corridaService.listAll(100, null, Expansao.COMPLETA).content());
+
+        System.out.printf("GET /corridas (100 itens): entidades=%d bytes, projecoes=%d bytes (%.1f%%)%n",
+                entidades, projecoes, 100.0 * projecoes / entidades);
+        assertTrue(projecoes < entidades);
+    }
+
+    // Caminho anterior: entidades gerenciadas (com snapshots de dirty-checking) passadas pelo mapper
+    private List<CorridaResponseDTO> viaEntidades() {
+        return transactionTemplate.execute(s -> {
+            var corridas = corridaRepository.findAllById(ids);
+            corridaRepository.fetchPodios(ids);
+            return corridas.stream().map(CorridaMapper::toDTO).toList();
+        });
+    }
+
+    private static long bytesPorRequisicao(Supplier<List<CorridaResponseDTO>> requisicao) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            requisicao.get();
+        }
+        long inicio = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEDICOES; i++) {
+            requisicao.get();
+        }
+        return (threads.getThreadAllocatedBytes(thread) - inicio) / MEDICOES;
+    }
+}
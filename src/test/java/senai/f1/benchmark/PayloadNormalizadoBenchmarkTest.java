@@ -0,0 +1,87 @@
+package senai.f1.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.configuration.JsonNormalizadoHttpMessageConverter;
+import senai.f1.support.DadosTeste;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Tamanho do payload com tudo expandido, JSON aninhado x normalizado, em 20 temporadas de 24 corridas sobre o
+// mesmo calendário e o mesmo grid de pilotos.
+// Roda com: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PayloadNormalizadoBenchmarkTest {
+
+    private static final int TEMPORADAS = 20;
+    private static final int CORRIDAS = 24;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void popular() {
+        transactionTemplate.executeWithoutResult(s -> DadosTeste.temporadas(entityManager, "Payload", TEMPORADAS, CORRIDAS));
+    }
+
+    @Test
+    void normalizadoEncolhePaginaDeCorridas() throws Exception {
+        comparar("GET /corridas?limit=100&expand=*");
+    }
+
+    @Test
+    void normalizadoEncolhePaginaDeCampeonatos() throws Exception {
+        comparar("GET /campeonatos?limit=" + TEMPORADAS + "&expand=*");
+    }
+
+    private void comparar(String requisicao) throws Exception {
+        String url = requisicao.substring("GET ".length());
+        byte[] aninhado = corpo(url, MediaType.APPLICATION_JSON);
+        byte[] normalizado = corpo(url, JsonNormalizadoHttpMessageConverter.NORMALIZADO);
+
+        System.out.printf("%s: aninhado=%d bytes (gzip %d), normalizado=%d bytes (gzip %d), %.1f%%%n",
+                requisicao, aninhado.length, gzip(aninhado).length, normalizado.length, gzip(normalizado).length,
+                100.0 * normalizado.length / aninhado.length);
+        assertTrue(normalizado.length < aninhado.length);
+    }
+
+    private byte[] corpo(String url, MediaType tipo) throws Exception {
+        return mockMvc.perform(get(url).accept(tipo))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(payload);
+        }
+        return saida.toByteArray();
+    }
+}
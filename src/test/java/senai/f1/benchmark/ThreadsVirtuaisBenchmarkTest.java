@@ -0,0 +1,138 @@
+package senai.f1.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.F1Application;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.support.DadosTeste;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// GET /corridas/{id} com milhares de clientes simultâneos: sobe a aplicação duas vezes (pool de threads de
+// plataforma do Tomcat e threads virtuais) e compara vazão, latência e a fila do bulkhead do banco.
+// Roda com: mvn test -Pbenchmark -Dtest=ThreadsVirtuaisBenchmarkTest
+//   -Dthreads.clientes=2000 -Dthreads.aquecimento=5 -Dthreads.duracao=20 (segundos)
+@Tag("benchmark")
+class ThreadsVirtuaisBenchmarkTest {
+
+    private static final int CLIENTES = Integer.getInteger("threads.clientes", 2000);
+    private static final long AQUECIMENTO = Long.getLong("threads.aquecimento", 5);
+    private static final long DURACAO = Long.getLong("threads.duracao", 20);
+
+    @Test
+    void plataformaVersusVirtuais() throws Exception {
+        Resultado plataforma = medir(false);
+        Resultado virtuais = medir(true);
+
+        System.out.printf("%d clientes, %d s em GET /corridas/{id}%n", CLIENTES, DURACAO);
+        System.out.printf("%-12s %8s %8s %8s %8s %8s %8s %6s %10s %10s %10s%n", "threads", "req", "req/s",
+                "p50", "p90", "p99", "max", "erros", "espera med", "espera max", "rejeicoes");
+        plataforma.imprimir("plataforma");
+        virtuais.imprimir("virtuais");
+
+        assertEquals(0, plataforma.histograma().erros(), "erros com threads de plataforma");
+        assertEquals(0, virtuais.histograma().erros(), "erros com threads virtuais");
+    }
+
+    // Espera no bulkhead (média desde a subida e máxima recente), em ms
+    private record Resultado(Histograma histograma, double esperaMediaMs, double esperaMaxMs, double rejeicoes) {
+        void imprimir(String modo) {
+            System.out.printf("%-12s %8d %8.1f %8.1f %8.1f %8.1f %8.1f %6d %10.1f %10.1f %10.0f%n", modo,
+                    histograma.total(), histograma.total() / (double) DURACAO, histograma.percentil(50),
+                    histograma.percentil(90), histograma.percentil(99), histograma.percentil(100),
+                    histograma.erros(), esperaMediaMs, esperaMaxMs, rejeicoes);
+            System.out.printf("    %s%n", histograma.faixas());
+        }
+    }
+
+    private Resultado medir(boolean virtuais) throws InterruptedException {
+        String banco = virtuais ? "threadsvirtuais" : "threadsplataforma";
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(F1Application.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtuais,
+                        "spring.datasource.url=jdbc:h2:mem:" + banco
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.senai.f1.configuration=error")
+                .run()) {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            List<UUID> corridas = popular(contexto);
+
+            executar(porta, corridas, AQUECIMENTO, null);
+            Histograma histograma = new Histograma();
+            MeterRegistry registry = contexto.getBean(MeterRegistry.class);
+            double rejeicoesAntes = registry.get("f1.bulkhead.rejeicoes").counter().count();
+            executar(porta, corridas, DURACAO, histograma);
+
+            Timer espera = registry.get("f1.bulkhead.espera").timer();
+            double rejeicoes = registry.get("f1.bulkhead.rejeicoes").counter().count() - rejeicoesAntes;
+            return new Resultado(histograma, espera.mean(TimeUnit.MILLISECONDS), espera.max(TimeUnit.MILLISECONDS),
+                    rejeicoes);
+        }
+    }
+
+    private List<UUID> popular(ConfigurableApplicationContext contexto) {
+        EntityManager entityManager = contexto.getBean(EntityManager.class);
+        List<UUID> corridas = new ArrayList<>();
+        contexto.getBean(TransactionTemplate.class).executeWithoutResult(s -> {
+            Campeonato campeonato = DadosTeste.temporada(entityManager, "Threads", 24);
+            campeonato.getCorridas().stream().map(Corrida::getId).forEach(corridas::add);
+        });
+        return corridas;
+    }
+
+    // Cada cliente é uma thread virtual repetindo GETs até o prazo; sem histograma é só aquecimento
+    private void executar(int porta, List<UUID> corridas, long segundos, Histograma histograma)
+            throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        try (ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build()) {
+            for (int i = 0; i < CLIENTES; i++) {
+                clientes.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < prazo) {
+                        UUID id = corridas.get(random.nextInt(corridas.size()));
+                        HttpRequest requisicao = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + porta + "/corridas/" + id)).GET().build();
+                        long inicio = System.nanoTime();
+                        boolean sucesso;
+                        try {
+                            sucesso = http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            sucesso = false;
+                        }
+                        if (histograma != null) {
+                            histograma.registrar((System.nanoTime() - inicio) / 1000, sucesso);
+                        }
+                    }
+                    return null;
+                });
+            }
+            clientes.shutdown();
+            clientes.awaitTermination(segundos + 120, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package senai.f1.benchmark.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import senai.f1.dtos.projection.CampeonatoCorridaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.mappers.CampeonatoMapper;
+import senai.f1.mappers.CorridaMapper;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+
+    private Corrida corrida;
+    private Campeonato campeonato;
+    private List<UUID> ids;
+    private List<CampeonatoCorridaRow> corridas;
+    private List<PodioRow> podios;
+
+    @Setup
+    public void montar() {
+        campeonato = TemporadaEmMemoria.campeonato();
+        corrida = campeonato.getCorridas().get(0);
+        ids = List.of(campeonato.getId());
+        corridas = TemporadaEmMemoria.corridas(campeonato);
+        podios = TemporadaEmMemoria.podios(campeonato);
+    }
+
+    @Benchmark
+    public CorridaResponseDTO corridaToDTO() {
+        return CorridaMapper.toDTO(corrida);
+    }
+
+    @Benchmark
+    public CampeonatoResponseDTO campeonatoToDTO() {
+        return CampeonatoMapper.toDTO(campeonato);
+    }
+
+    // Caminho usado por listAll/findByEquipe: monta a partir das projeções
+    @Benchmark
+    public List<CampeonatoResponseDTO> campeonatoToDTOsProjecoes() {
+        return CampeonatoMapper.toDTOs(ids, corridas, podios);
+    }
+}
@@ -0,0 +1,72 @@
+package senai.f1.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.mappers.CampeonatoMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+// Tempo de serialização por formato de resposta; o tamanho do payload (puro e com gzip) sai no log do setup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializacaoBenchmark {
+
+    // JSON (padrão da API), CBOR e Smile (FormatosConfig)
+    @Param({"json", "cbor", "smile"})
+    public String formato;
+
+    // Uma temporada (GET /campeonatos/{id}) ou uma página cheia (GET /campeonatos)
+    @Param({"1", "50"})
+    public int temporadas;
+
+    private ObjectMapper objectMapper;
+    private Object resposta;
+
+    @Setup
+    public void montar() throws IOException {
+        objectMapper = mapper(formato);
+        List<CampeonatoResponseDTO> campeonatos = IntStream.range(0, temporadas)
+                .mapToObj(i -> CampeonatoMapper.toDTO(TemporadaEmMemoria.campeonato()))
+                .toList();
+        resposta = temporadas == 1 ? campeonatos.get(0) : campeonatos;
+
+        byte[] payload = serializar();
+        System.out.printf("%s, %d temporada(s): %d bytes, %d bytes com gzip%n",
+                formato, temporadas, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws IOException {
+        return objectMapper.writeValueAsBytes(resposta);
+    }
+
+    // Mesmos módulos que o Spring Boot registra nos mapeadores da aplicação
+    private static ObjectMapper mapper(String formato) {
+        return switch (formato) {
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            default -> JsonMapper.builder().findAndAddModules().build();
+        };
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(payload);
+        }
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,81 @@
+package senai.f1.benchmark.jmh;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.F1Application;
+import senai.f1.dtos.request.Expansao;
+import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.model.Campeonato;
+import senai.f1.pagination.CursorPage;
+import senai.f1.service.CampeonatoService;
+import senai.f1.service.CorridaService;
+import senai.f1.support.DadosTeste;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Caminhos de leitura dos services contra o H2 em memória do perfil de teste (5 temporadas de 24 corridas)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServicoBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private CampeonatoService campeonatoService;
+    private CorridaService corridaService;
+    private UUID campeonatoId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(F1Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        campeonatoService = contexto.getBean(CampeonatoService.class);
+        corridaService = contexto.getBean(CorridaService.class);
+        EntityManager entityManager = contexto.getBean(EntityManager.class);
+        campeonatoId = contexto.getBean(TransactionTemplate.class).execute(s -> {
+            Campeonato ultimo = null;
+            for (int ano = 2022; ano <= 2026; ano++) {
+                ultimo = DadosTeste.temporada(entityManager, String.valueOf(ano), 24);
+            }
+            return ultimo.getId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public CampeonatoResponseDTO campeonatoFindById() {
+        return campeonatoService.findById(campeonatoId, Expansao.COMPLETA);
+    }
+
+    @Benchmark
+    public CursorPage<CampeonatoResponseDTO> campeonatoListAll() {
+        return campeonatoService.listAll(50, null, Expansao.COMPLETA);
+    }
+
+    // Padrão da API sem expand: corridas só com ids
+    @Benchmark
+    public CursorPage<CampeonatoResponseDTO> campeonatoListAllReferencias() {
+        return campeonatoService.listAll(50, null, Expansao.de(null, null));
+    }
+
+    @Benchmark
+    public CursorPage<CorridaResponseDTO> corridaListAll() {
+        return corridaService.listAll(50, null, Expansao.COMPLETA);
+    }
+}
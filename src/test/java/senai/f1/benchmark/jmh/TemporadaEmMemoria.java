@@ -0,0 +1,73 @@
+package senai.f1.benchmark.jmh;
+
+import senai.f1.dtos.projection.CampeonatoCorridaRow;
+import senai.f1.dtos.projection.PodioRow;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.Pais;
+import senai.f1.model.Piloto;
+import senai.f1.model.Pista;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Temporada montada só em memória (sem banco): 24 corridas com pódio de três pilotos, como em DadosTeste
+final class TemporadaEmMemoria {
+
+    static final int CORRIDAS = 24;
+
+    private TemporadaEmMemoria() { }
+
+    static Campeonato campeonato() {
+        List<Piloto> pilotos = List.of(
+                piloto("Piloto A", "Equipe 1"),
+                piloto("Piloto B", "Equipe 1"),
+                piloto("Piloto C", "Equipe 2"));
+        List<Corrida> corridas = new ArrayList<>();
+        for (int i = 0; i < CORRIDAS; i++) {
+            Pais pais = new Pais();
+            pais.setId(UUID.randomUUID());
+            pais.setNome("País " + i);
+            Pista pista = new Pista();
+            pista.setId(UUID.randomUUID());
+            pista.setPais(pais);
+            pista.setDistancia(4.0 + i % 3);
+            pista.setDificuldade(Dificuldade.values()[i % Dificuldade.values().length]);
+            Corrida corrida = new Corrida();
+            corrida.setId(UUID.randomUUID());
+            corrida.setPista(pista);
+            corrida.setPodio(List.of(pilotos.get(i % 3), pilotos.get((i + 1) % 3), pilotos.get((i + 2) % 3)));
+            corridas.add(corrida);
+        }
+        Campeonato campeonato = new Campeonato();
+        campeonato.setId(UUID.randomUUID());
+        campeonato.setCorridas(corridas);
+        return campeonato;
+    }
+
+    // Mesmas linhas que CampeonatoRepository.findCorridas/findPodios devolveriam para a temporada
+    static List<CampeonatoCorridaRow> corridas(Campeonato campeonato) {
+        return campeonato.getCorridas().stream()
+                .map(c -> new CampeonatoCorridaRow(campeonato.getId(), c.getId(), c.getPista().getId(),
+                        c.getPista().getPais().getId(), c.getPista().getPais().getNome(),
+                        c.getPista().getDistancia(), c.getPista().getDificuldade()))
+                .toList();
+    }
+
+    static List<PodioRow> podios(Campeonato campeonato) {
+        return campeonato.getCorridas().stream()
+                .flatMap(c -> c.getPodio().stream()
+                        .map(p -> new PodioRow(c.getId(), p.getId(), p.getNome(), p.getEquipe())))
+                .toList();
+    }
+
+    private static Piloto piloto(String nome, String equipe) {
+        Piloto piloto = new Piloto();
+        piloto.setId(UUID.randomUUID());
+        piloto.setNome(nome);
+        piloto.setEquipe(equipe);
+        return piloto;
+    }
+}
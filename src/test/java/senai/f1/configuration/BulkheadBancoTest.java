@@ -0,0 +1,49 @@
+package senai.f1.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadBancoTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BulkheadBanco bulkhead;
+
+    @BeforeEach
+    void criar() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1");
+        bulkhead = new BulkheadBanco(h2, 2, Duration.ofMillis(50));
+        bulkhead.bindTo(registry);
+    }
+
+    @Test
+    void conexaoFechadaDevolvePermissaoUmaVez() throws Exception {
+        Connection conexao = bulkhead.getConnection();
+        assertEquals(1, bulkhead.disponiveis());
+        assertEquals(1.0, registry.get("f1.bulkhead.em.uso").gauge().value());
+
+        conexao.close();
+        conexao.close();
+
+        assertEquals(2, bulkhead.disponiveis());
+        assertTrue(conexao.isClosed());
+    }
+
+    @Test
+    void esperaAlemDoPrazoRecusaEContaRejeicao() throws Exception {
+        try (Connection primeira = bulkhead.getConnection(); Connection segunda = bulkhead.getConnection()) {
+            assertThrows(BulkheadBanco.BulkheadCheioException.class, () -> bulkhead.getConnection());
+        }
+
+        assertEquals(1.0, registry.get("f1.bulkhead.rejeicoes").counter().count());
+        assertEquals(3, registry.get("f1.bulkhead.espera").timer().count());
+        assertEquals(2, bulkhead.disponiveis());
+    }
+}
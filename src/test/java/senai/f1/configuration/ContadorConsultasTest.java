@@ -0,0 +1,39 @@
+package senai.f1.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContadorConsultasTest {
+
+    private final ContadorConsultas contador = new ContadorConsultas();
+
+    @AfterEach
+    void encerrar() {
+        ContadorConsultas.encerrar();
+    }
+
+    @Test
+    void mesmoStatementRepetidoIndicaNMaisUm() {
+        ContadorConsultas.Registro registro = ContadorConsultas.iniciar();
+        contador.inspect("select c.id from corrida c");
+        for (int i = 0; i < 4; i++) {
+            contador.inspect("select p.id, p.nome from pista p where p.id=?");
+        }
+
+        assertEquals(5, registro.total());
+        List<Map.Entry<String, Integer>> repetidos = registro.repetidos(3);
+        assertEquals(1, repetidos.size());
+        assertEquals(4, repetidos.get(0).getValue());
+    }
+
+    @Test
+    void foraDeUmaRequisicaoNadaEContado() {
+        assertEquals("select 1", contador.inspect("select 1"));
+        assertEquals(0, ContadorConsultas.iniciar().total());
+    }
+}
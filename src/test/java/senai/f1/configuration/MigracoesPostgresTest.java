@@ -0,0 +1,152 @@
+package senai.f1.configuration;
+
+import db.migration.V5__insert_admin_user;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Migrations Flyway no PostgreSQL: o perfil de teste usa H2 com o schema do Hibernate e não as executa.
+// Roda com mvn test -Ppostgres no banco de spring.datasource.* (application.properties ou -D); cada caso
+// usa um schema próprio, removido no fim. A configuração spring.flyway.* é a da aplicação.
+@Tag("postgres")
+class MigracoesPostgresTest {
+
+    private static final String MIGRACOES = "db/migration/";
+
+    private final List<String> schemas = new ArrayList<>();
+    private Properties aplicacao;
+
+    @BeforeEach
+    void carregarConfiguracao() throws IOException {
+        aplicacao = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+    }
+
+    @AfterEach
+    void removerSchemas() throws SQLException {
+        try (Connection conexao = conexao(); Statement statement = conexao.createStatement()) {
+            for (String schema : schemas) {
+                statement.execute("drop schema if exists " + schema + " cascade");
+            }
+        }
+    }
+
+    @Test
+    void bancoNovoRecebeTodasAsVersoesEmOrdem() {
+        Flyway flyway = flyway("f1_migracao_novo").load();
+        flyway.migrate();
+        flyway.validate();
+
+        Map<String, MigrationState> estados = estados(flyway);
+        assertEquals(MigrationState.SUCCESS, estados.get("5.1"));
+        assertEquals(MigrationState.SUCCESS, estados.get("11"));
+    }
+
+    // Bancos anteriores a V5_1: tabelas de domínio criadas fora do Flyway e histórico até V6
+    @Test
+    void bancoComTabelasDeDominioAplicaV5_1ForaDeOrdem(@TempDir Path anteriores) throws Exception {
+        String schema = "f1_migracao_existente";
+        executar("create schema " + schema + "; set search_path to " + schema + "; "
+                + script("V5_1__create_domain_tables.sql"));
+        for (String arquivo : List.of("V1__create_role_table.sql", "V2__create_user_table.sql",
+                "V3__insert_default_roles.sql", "V4__add_email_to_user.sql", "V6__insert_paises.sql")) {
+            Files.writeString(anteriores.resolve(arquivo), script(arquivo));
+        }
+        flyway(schema).locations("filesystem:" + anteriores)
+                .javaMigrations(new V5__insert_admin_user())
+                .load().migrate();
+
+        Flyway flyway = flyway(schema).load();
+        flyway.migrate();
+        flyway.validate();
+
+        Map<String, MigrationState> estados = estados(flyway);
+        assertEquals(MigrationState.OUT_OF_ORDER, estados.get("5.1"));
+        assertEquals(MigrationState.SUCCESS, estados.get("11"));
+    }
+
+    private FluentConfiguration flyway(String schema) {
+        schemas.add(schema);
+        Map<String, String> configuracao = new HashMap<>();
+        for (String chave : aplicacao.stringPropertyNames()) {
+            if (chave.startsWith("spring.flyway.") && !chave.equals("spring.flyway.enabled")) {
+                configuracao.put(chaveFlyway(chave), aplicacao.getProperty(chave));
+            }
+        }
+        return Flyway.configure()
+                .configuration(configuracao)
+                .dataSource(propriedade("url"), propriedade("username"), propriedade("password"))
+                .schemas(schema)
+                .createSchemas(true);
+    }
+
+    // Nenhuma migration pendente, ignorada ou com falha: cada versão resolvida foi aplicada
+    private static Map<String, MigrationState> estados(Flyway flyway) {
+        MigrationInfo[] todas = flyway.info().all();
+        List<String> naoAplicadas = Arrays.stream(todas)
+                .filter(m -> !m.getState().isApplied() || m.getState().isFailed())
+                .map(m -> m.getVersion() + " " + m.getState())
+                .toList();
+        assertTrue(naoAplicadas.isEmpty(), () -> "Migrations não aplicadas: " + naoAplicadas);
+        return Arrays.stream(todas)
+                .filter(m -> m.getVersion() != null)
+                .collect(Collectors.toMap(m -> m.getVersion().getVersion(), MigrationInfo::getState, (a, b) -> b));
+    }
+
+    // spring.flyway.out-of-order -> flyway.outOfOrder
+    private static String chaveFlyway(String chave) {
+        String[] partes = chave.substring("spring.".length()).split("-");
+        StringBuilder flyway = new StringBuilder(partes[0]);
+        for (int i = 1; i < partes.length; i++) {
+            flyway.append(Character.toUpperCase(partes[i].charAt(0))).append(partes[i].substring(1));
+        }
+        return flyway.toString();
+    }
+
+    private String propriedade(String nome) {
+        String chave = "spring.datasource." + nome;
+        return System.getProperty(chave, aplicacao.getProperty(chave));
+    }
+
+    private Connection conexao() throws SQLException {
+        return DriverManager.getConnection(propriedade("url"), propriedade("username"), propriedade("password"));
+    }
+
+    private void executar(String sql) throws SQLException {
+        try (Connection conexao = conexao(); Statement statement = conexao.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String script(String arquivo) throws IOException {
+        try (InputStream entrada = new ClassPathResource(MIGRACOES + arquivo).getInputStream()) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
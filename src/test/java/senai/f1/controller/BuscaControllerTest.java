@@ -0,0 +1,117 @@
+package senai.f1.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.dtos.request.PaisRequestDTO;
+import senai.f1.dtos.request.PilotoRequestDTO;
+import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.dtos.response.PaisResponseDTO;
+import senai.f1.dtos.response.PilotoResponseDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
+import senai.f1.service.PaisService;
+import senai.f1.service.PilotoService;
+import senai.f1.service.PistaService;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static senai.f1.support.OrcamentoConsultas.consultasNoMaximo;
+
+// Sem @Transactional: o índice de busca só muda quando a transação de escrita faz commit, então os
+// registros criados aqui são gravados de verdade e removidos no fim de cada teste
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BuscaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PaisService paisService;
+
+    @Autowired
+    private PilotoService pilotoService;
+
+    @Autowired
+    private PistaService pistaService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void buscaIgnoraAcentosEMaiusculas() throws Exception {
+        // Itália vem do data.sql, indexado na subida da aplicação
+        for (String consulta : new String[]{"italia", "ITÁLIA", " Itália "}) {
+            mockMvc.perform(get("/buscar").param("q", consulta))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].tipo").value("pais"))
+                    .andExpect(jsonPath("$[0].texto").value("Itália"))
+                    .andExpect(jsonPath("$[0].relevancia").value(3.0))
+                    .andExpect(consultasNoMaximo(0));
+        }
+    }
+
+    @Test
+    void buscaToleraErroDeDigitacaoEPrefixo() throws Exception {
+        mockMvc.perform(get("/buscar").param("q", "alemnha"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].texto").value(hasItem("Alemanha")));
+
+        mockMvc.perform(get("/buscar").param("q", "bra"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].texto").value("Brasil"));
+
+        mockMvc.perform(get("/buscar").param("q", "xyzw"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void escritasAtualizamOIndiceDepoisDoCommit() throws Exception {
+        PaisResponseDTO pais = paisService.create(new PaisRequestDTO("Colômbia Busca"));
+        PistaResponseDTO pista = pistaService.create(new PistaRequestDTO(pais.id(), 5.0, "MEDIO"));
+        PilotoResponseDTO piloto = pilotoService.create(new PilotoRequestDTO("Juan Pablo Busca", "Équipe Busca"));
+        try {
+            mockMvc.perform(get("/buscar").param("q", "colombia busca"))
+                    .andExpect(jsonPath("$[*].id").value(hasItem(pais.id().toString())))
+                    .andExpect(jsonPath("$[*].id").value(hasItem(pista.id().toString())));
+            mockMvc.perform(get("/buscar").param("q", "equipe busca"))
+                    .andExpect(jsonPath("$[0].id").value(piloto.id().toString()))
+                    .andExpect(jsonPath("$[0].campo").value("equipe"));
+
+            // a pista é encontrada pelo nome novo do país
+            paisService.update(pais.id(), new PaisRequestDTO("Venezuela Busca"));
+            mockMvc.perform(get("/buscar").param("q", "venezuela busca"))
+                    .andExpect(jsonPath("$[*].id").value(hasItem(pista.id().toString())));
+            mockMvc.perform(get("/buscar").param("q", "colombia busca"))
+                    .andExpect(jsonPath("$[*].id").value(not(hasItem(pista.id().toString()))));
+        } finally {
+            pilotoService.delete(piloto.id());
+            pistaService.delete(pista.id());
+            paisService.delete(pais.id());
+        }
+
+        mockMvc.perform(get("/buscar").param("q", "juan pablo busca"))
+                .andExpect(jsonPath("$[*].id").value(not(hasItem(piloto.id().toString()))));
+    }
+
+    @Test
+    void transacaoDesfeitaNaoChegaAoIndice() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            pilotoService.create(new PilotoRequestDTO("Piloto Desfeito", "Equipe Desfeita"));
+            status.setRollbackOnly();
+        });
+
+        mockMvc.perform(get("/buscar").param("q", "piloto desfeito"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].texto").value(not(hasItem("Piloto Desfeito"))));
+    }
+}
@@ -0,0 +1,311 @@
+package senai.f1.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.configuration.JsonNormalizadoHttpMessageConverter;
+import senai.f1.dtos.request.CampeonatoRequestDTO;
+import senai.f1.dtos.response.CampeonatoResponseDTO;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.Pais;
+import senai.f1.service.CampeonatoService;
+import senai.f1.support.ContadorSql;
+import senai.f1.support.DadosTeste;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static senai.f1.support.OrcamentoConsultas.consultasNoMaximo;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CampeonatoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CampeonatoService campeonatoService;
+
+    @Test
+    void listAllExecutaNumeroFixoDeConsultas() throws Exception {
+        DadosTeste.temporada(entityManager, "2022", 3);
+        long umaTemporada = statementsPara(get("/campeonatos"));
+
+        for (int ano = 2023; ano <= 2026; ano++) {
+            DadosTeste.temporada(entityManager, String.valueOf(ano), 24);
+        }
+        long cincoTemporadas = statementsPara(get("/campeonatos"));
+
+        // ETag (ids + versões) + página + resumos agregados; expandindo tudo, mais corridas com pista e país e pódios
+        assertEquals(4, umaTemporada);
+        assertEquals(umaTemporada, cincoTemporadas);
+        assertEquals(6, statementsPara(get("/campeonatos").param("expand", "*")));
+    }
+
+    @Test
+    void findByIdCarregaTemporadaEmQuatroConsultas() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "2024", 24);
+        String url = "/campeonatos/" + campeonato.getId();
+
+        // versões (ETag) + resumo + temporada com pistas e países + pódios
+        assertEquals(4, statementsPara(get(url).param("expand", "corridas.pista.pais,corridas.podio")));
+        mockMvc.perform(get(url).param("expand", "corridas.pista.pais,corridas.podio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.corridas.length()").value(24))
+                .andExpect(jsonPath("$.corridas[0].pista.pais.nome").exists())
+                .andExpect(jsonPath("$.corridas[0].podio.length()").value(3));
+    }
+
+    @Test
+    void findByIdPorPadraoTrazSoOResumoAgregado() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Resumo", 24);
+        String url = "/campeonatos/" + campeonato.getId();
+
+        // versões (ETag) + resumo, sem ler as corridas
+        assertEquals(2, statementsPara(get(url)));
+        // 24 pistas de 4, 5 e 6 km em 24 países
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resumo.corridas").value(24))
+                .andExpect(jsonPath("$.resumo.paises").value(24))
+                .andExpect(jsonPath("$.resumo.distanciaTotal").value(8 * (4.0 + 5.0 + 6.0)))
+                .andExpect(jsonPath("$.corridas").doesNotExist());
+    }
+
+    @Test
+    void findByIdDeCampeonatoSemCorridasTrazResumoZerado() throws Exception {
+        Campeonato campeonato = DadosTeste.campeonato(entityManager, List.of());
+
+        mockMvc.perform(get("/campeonatos/" + campeonato.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resumo.corridas").value(0))
+                .andExpect(jsonPath("$.resumo.paises").value(0))
+                .andExpect(jsonPath("$.resumo.distanciaTotal").value(0.0));
+    }
+
+    @Test
+    void findByIdComFieldsCorridasLeSoOsIdsDasCorridas() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Refs", 24);
+        String url = "/campeonatos/" + campeonato.getId();
+
+        // versões (ETag) + tabela de junção
+        assertEquals(2, statementsPara(get(url).param("fields", "corridas")));
+        mockMvc.perform(get(url).param("fields", "corridas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resumo").doesNotExist())
+                .andExpect(jsonPath("$.corridas.length()").value(24))
+                .andExpect(jsonPath("$.corridas[0].id").exists())
+                .andExpect(jsonPath("$.corridas[0].pista").doesNotExist())
+                .andExpect(jsonPath("$.corridas[0].podio").doesNotExist());
+        // corridas com a pista só com o id, sem pódio
+        assertEquals(2, statementsPara(get(url).param("fields", "corridas.pista").param("expand", "corridas")));
+        mockMvc.perform(get(url).param("fields", "corridas.pista").param("expand", "corridas"))
+                .andExpect(jsonPath("$.corridas[0].pista.id").exists())
+                .andExpect(jsonPath("$.corridas[0].pista.pais").doesNotExist())
+                .andExpect(jsonPath("$.corridas[0].podio").doesNotExist());
+    }
+
+    @Test
+    void findByIdRespondeNaoModificadoAteUmFilhoAninhadoMudar() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "ETag", 3);
+        UUID paisId = campeonato.getCorridas().get(0).getPista().getPais().getId();
+        String url = "/campeonatos/" + campeonato.getId() + "?expand=corridas.pista.pais";
+        entityManager.flush();
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        // só a consulta de versões, sem corpo
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(consultasNoMaximo(1));
+
+        entityManager.find(Pais.class, paisId).setNome("ETag País renomeado");
+        entityManager.flush();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.corridas[*].pista.pais.nome", hasItem("ETag País renomeado")));
+    }
+
+    @Test
+    void findByIdNegociaCborComOMesmoConteudoDoJson() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "CBOR", 24);
+        String url = "/campeonatos/" + campeonato.getId() + "?expand=*";
+        entityManager.flush();
+
+        byte[] json = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] cbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(new ObjectMapper().readValue(json, CampeonatoResponseDTO.class),
+                new CBORMapper().readValue(cbor, CampeonatoResponseDTO.class));
+        assertTrue(cbor.length < json.length, "CBOR " + cbor.length + " bytes, JSON " + json.length);
+    }
+
+    @Test
+    void findByIdNormalizadoPoeAsPistasEmIncluded() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Normalizado", 24);
+        entityManager.flush();
+
+        mockMvc.perform(get("/campeonatos/" + campeonato.getId()).param("expand", "corridas.pista")
+                        .accept(JsonNormalizadoHttpMessageConverter.NORMALIZADO))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.corridas.length()").value(24))
+                .andExpect(jsonPath("$.data.corridas[0].pista.pais").doesNotExist())
+                .andExpect(jsonPath("$.included.pistas.length()").value(24))
+                .andExpect(jsonPath("$.included.paises.length()").value(0))
+                .andExpect(jsonPath("$.included.pilotos.length()").value(0));
+    }
+
+    @Test
+    void findAllByIdCarregaTemporadasComPodiosEmDuasConsultas() throws Exception {
+        Campeonato primeira = DadosTeste.temporada(entityManager, "Multi 1", 24);
+        Campeonato segunda = DadosTeste.temporada(entityManager, "Multi 2", 3);
+        String ids = segunda.getId() + "," + UUID.randomUUID() + "," + primeira.getId();
+
+        // temporadas com corridas, pistas e países + pódios
+        assertEquals(2, statementsPara(get("/campeonatos").param("ids", ids).param("expand", "*")));
+        mockMvc.perform(get("/campeonatos").param("ids", ids).param("expand", "*"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].item.corridas.length()").value(3))
+                .andExpect(jsonPath("$[0].item.corridas[0].podio.length()").value(3))
+                .andExpect(jsonPath("$[1].encontrado").value(false))
+                .andExpect(jsonPath("$[2].item.corridas.length()").value(24));
+        // sem expand as corridas vêm só com o id e os pódios nem são lidos
+        assertEquals(1, statementsPara(get("/campeonatos").param("ids", ids)));
+    }
+
+    @Test
+    void corridasDoCampeonatoVemPaginadas() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Paginas", 24);
+        String url = "/campeonatos/" + campeonato.getId() + "/corridas";
+
+        // versões (ETag) + página (só o id da pista) + pódios (só os ids dos pilotos)
+        assertEquals(3, statementsPara(get(url).param("limit", "10")));
+        String link = mockMvc.perform(get(url).param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(jsonPath("$[0].pista.id").exists())
+                .andExpect(jsonPath("$[0].pista.distancia").doesNotExist())
+                .andExpect(jsonPath("$[0].podio.length()").value(3))
+                .andReturn().getResponse().getHeader(HttpHeaders.LINK);
+        assertNotNull(link);
+        String cursor = link.substring(link.indexOf("cursor=") + "cursor=".length(), link.indexOf('>'));
+
+        mockMvc.perform(get(url).param("limit", "20").param("cursor", cursor).param("expand", "pista.pais"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
+                .andExpect(jsonPath("$.length()").value(14))
+                .andExpect(jsonPath("$[0].pista.pais.nome").exists());
+    }
+
+    @Test
+    void classificacaoRespondeEmUmaConsultaQualquerQueSejaATemporada() throws Exception {
+        UUID curta = classificada("Curta", 3);
+        UUID longa = classificada("Longa", 24);
+
+        assertEquals(1, statementsPara(get("/campeonatos/" + curta + "/classificacao")));
+        assertEquals(1, statementsPara(get("/campeonatos/" + longa + "/classificacao")));
+        // 24 corridas com o pódio girando entre três pilotos: 8 vitórias, 8 segundos e 8 terceiros para cada um
+        mockMvc.perform(get("/campeonatos/" + longa + "/classificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andExpect(jsonPath("$[0].pontos").value(8 * (25 + 18 + 15)))
+                .andExpect(jsonPath("$[0].podios").value(24));
+    }
+
+    @Test
+    void buscarPorEquipeTrazCadaCampeonatoUmaVez() throws Exception {
+        // dois pilotos da equipe em cada uma das 24 corridas
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Distinto", 24);
+        DadosTeste.temporada(entityManager, "Outra", 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/campeonatos/buscar/equipe").param("nome", "distinto equipe 1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(campeonato.getId().toString()));
+    }
+
+    @Test
+    void deleteDeCampeonatoInexistenteResponde404() throws Exception {
+        mockMvc.perform(delete("/campeonatos/" + UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void endpointsDeLeituraRespeitamOrcamentoDeConsultas() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Orçamento", 24);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/campeonatos")).andExpect(consultasNoMaximo(5));
+        mockMvc.perform(get("/campeonatos/" + campeonato.getId())).andExpect(consultasNoMaximo(3));
+        // tabela vazia: confere se o campeonato existe
+        mockMvc.perform(get("/campeonatos/" + campeonato.getId() + "/classificacao"))
+                .andExpect(consultasNoMaximo(2));
+        mockMvc.perform(get("/campeonatos/buscar/equipe").param("nome", "Orçamento Equipe 1"))
+                .andExpect(consultasNoMaximo(3));
+    }
+
+    // Recria a temporada pelo service, que é quem alimenta a tabela de classificação
+    private UUID classificada(String prefixo, int corridas) {
+        Campeonato temporada = DadosTeste.temporada(entityManager, prefixo, corridas);
+        List<UUID> ids = temporada.getCorridas().stream().map(Corrida::getId).toList();
+        entityManager.remove(temporada);
+        entityManager.flush();
+        return campeonatoService.create(new CampeonatoRequestDTO(ids)).id();
+    }
+
+    private long statementsPara(RequestBuilder request) throws Exception {
+        ContadorSql contador = new ContadorSql(entityManagerFactory);
+        entityManager.flush();
+        entityManager.clear();
+        contador.zerar();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return contador.statements();
+    }
+}
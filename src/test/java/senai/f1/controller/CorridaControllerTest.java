@@ -1,15 +1,83 @@
 package senai.f1.controller;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.configuration.JsonNormalizadoHttpMessageConverter;
+import senai.f1.dtos.request.PaisRequestDTO;
+import senai.f1.dtos.request.PilotoRequestDTO;
+import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.mappers.CorridaViewMapper;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.CorridaView;
+import senai.f1.repository.CorridaViewRepository;
+import senai.f1.service.PaisService;
+import senai.f1.service.PilotoService;
+import senai.f1.service.PistaService;
+import senai.f1.support.ContadorSql;
+import senai.f1.support.DadosTeste;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static senai.f1.support.OrcamentoConsultas.consultasNoMaximo;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 class CorridaControllerTest {
 
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CorridaViewRepository corridaViewRepository;
+
+    @Autowired
+    private PistaService pistaService;
+
+    @Autowired
+    private PaisService paisService;
+
+    @Autowired
+    private PilotoService pilotoService;
+
     @Test
     void create() {
     }
@@ -18,10 +86,174 @@ class CorridaControllerTest {
     void listAll() {
     }
 
+    @Test
+    @Transactional
+    void listAllExecutaNumeroFixoDeConsultas() throws Exception {
+        DadosTeste.temporada(entityManager, "Curta", 3);
+        long poucasCorridas = statementsPara(get("/corridas"));
+
+        DadosTeste.temporada(entityManager, "Longa", 40);
+        long muitasCorridas = statementsPara(get("/corridas"));
+
+        // ETag (ids + versões) + página de corrida_view, com pista, país e pódio na mesma linha
+        assertEquals(2, poucasCorridas);
+        assertEquals(poucasCorridas, muitasCorridas);
+    }
+
+    @Test
+    @Transactional
+    void listAllLeUmaTabelaSoComQualquerFieldsEExpand() throws Exception {
+        DadosTeste.temporada(entityManager, "Campos", 3);
+
+        assertEquals(2, statementsPara(get("/corridas").param("expand", "pista")));
+        assertEquals(2, statementsPara(get("/corridas").param("fields", "id,pista").param("expand", "pista")));
+        assertEquals(2, statementsPara(get("/corridas").param("expand", "*")));
+        mockMvc.perform(get("/corridas").param("fields", "id,pista.distancia").param("expand", "pista"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].pista.distancia").exists())
+                .andExpect(jsonPath("$[0].pista.pais").doesNotExist())
+                .andExpect(jsonPath("$[0].podio").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void listAllNormalizadoIncluiCadaPistaPaisEPilotoUmaVez() throws Exception {
+        // 2 temporadas x 3 corridas no mesmo calendário; os pódios passam pelos pilotos 0 a 5 do grid
+        DadosTeste.temporadas(entityManager, "Normalizado", 2, 3);
+        entityManager.flush();
+
+        mockMvc.perform(get("/corridas").param("expand", "*").accept(JsonNormalizadoHttpMessageConverter.NORMALIZADO))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(JsonNormalizadoHttpMessageConverter.NORMALIZADO))
+                .andExpect(jsonPath("$.data.length()").value(6))
+                .andExpect(jsonPath("$.data[0].pista.id").exists())
+                .andExpect(jsonPath("$.data[0].pista.distancia").doesNotExist())
+                .andExpect(jsonPath("$.data[0].podio[0].nome").doesNotExist())
+                .andExpect(jsonPath("$.included.pistas.length()").value(3))
+                .andExpect(jsonPath("$.included.paises.length()").value(3))
+                .andExpect(jsonPath("$.included.pilotos.length()").value(6));
+
+        // sem Accept específico continua o JSON aninhado
+        mockMvc.perform(get("/corridas").param("expand", "*"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].pista.distancia").exists());
+    }
+
+    @Test
+    void exportarRespondeNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/corridas/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    void buscaPorPilotoRegistraTimersDeEndpointServiceERepositorio() throws Exception {
+        mockMvc.perform(get("/corridas/buscar/piloto").param("nome", "Ninguém"))
+                .andExpect(status().isOk());
+
+        assertTrue(meterRegistry.find("http.server.requests").tag("uri", "/corridas/buscar/piloto").timer().count() > 0);
+        assertTrue(meterRegistry.find("f1.service")
+                .tags("class", "senai.f1.service.CorridaService", "method", "findByPiloto").timer().count() > 0);
+        assertTrue(meterRegistry.find("spring.data.repository.invocations")
+                .tags("repository", "CorridaViewRepository", "method", "findByPiloto").timer().count() > 0);
+        assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.query.executions.max").timeGauge());
+    }
+
+    @Test
+    @Transactional
+    void endpointsDeLeituraRespeitamOrcamentoDeConsultas() throws Exception {
+        Corrida corrida = DadosTeste.temporada(entityManager, "Orçamento", 24).getCorridas().get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/corridas")).andExpect(consultasNoMaximo(2));
+        mockMvc.perform(get("/corridas/" + corrida.getId())).andExpect(consultasNoMaximo(2));
+        mockMvc.perform(get("/corridas/buscar/piloto").param("nome", "Orçamento Piloto A"))
+                .andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/corridas/buscar/pais").param("nome", "Orçamento País 0"))
+                .andExpect(consultasNoMaximo(1));
+    }
+
     @Test
     void findById() {
     }
 
+    @Test
+    @Transactional
+    void findByIdCarregaCorridaEmUmaConsultaAlemDoEtag() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Unica", 1);
+        String id = campeonato.getCorridas().get(0).getId().toString();
+
+        // versões (ETag) + corrida com pista, país e pódio
+        assertEquals(2, statementsPara(get("/corridas/" + id).param("expand", "pista.pais,podio")));
+        mockMvc.perform(get("/corridas/" + id).param("expand", "pista.pais,podio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pista.pais.nome").value("Unica País 0"))
+                .andExpect(jsonPath("$.podio.length()").value(3))
+                .andExpect(jsonPath("$.podio[0].nome").exists());
+    }
+
+    @Test
+    @Transactional
+    void findByIdSemExpandTrazSoReferencias() throws Exception {
+        Corrida corrida = DadosTeste.temporada(entityManager, "Refs", 1).getCorridas().get(0);
+
+        mockMvc.perform(get("/corridas/" + corrida.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pista.id").value(corrida.getPista().getId().toString()))
+                .andExpect(jsonPath("$.pista.distancia").doesNotExist())
+                .andExpect(jsonPath("$.pista.pais").doesNotExist())
+                .andExpect(jsonPath("$.podio.length()").value(3))
+                .andExpect(jsonPath("$.podio[0].id").exists())
+                .andExpect(jsonPath("$.podio[0].nome").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void findAllByIdDevolveNaOrdemPedidaComMarcadorDeNaoEncontrado() throws Exception {
+        List<Corrida> corridas = DadosTeste.temporada(entityManager, "Multi", 3).getCorridas();
+        String ausente = UUID.randomUUID().toString();
+        String ids = corridas.get(2).getId() + "," + ausente + "," + corridas.get(0).getId();
+
+        // corridas com pista, país e pódio em uma consulta
+        assertEquals(1, statementsPara(get("/corridas").param("ids", ids).param("expand", "*")));
+        mockMvc.perform(get("/corridas").param("ids", ids).param("expand", "*"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(corridas.get(2).getId().toString()))
+                .andExpect(jsonPath("$[0].encontrado").value(true))
+                .andExpect(jsonPath("$[0].item.pista.pais.nome").value("Multi País 2"))
+                .andExpect(jsonPath("$[0].item.podio.length()").value(3))
+                .andExpect(jsonPath("$[1].id").value(ausente))
+                .andExpect(jsonPath("$[1].encontrado").value(false))
+                .andExpect(jsonPath("$[1].item").doesNotExist())
+                .andExpect(jsonPath("$[2].id").value(corridas.get(0).getId().toString()));
+    }
+
+    @Test
+    @Transactional
+    void lookupDivideOsIdsEmBlocosAbaixoDoLimiteDeParametros() throws Exception {
+        Corrida corrida = DadosTeste.temporada(entityManager, "Lookup", 1).getCorridas().get(0);
+        List<UUID> ids = new ArrayList<>(Stream.generate(UUID::randomUUID).limit(2_499).toList());
+        ids.add(corrida.getId());
+        String corpo = ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(",", "[", "]"));
+
+        // 2.500 ids distintos: três consultas de até 1.000
+        assertEquals(3, statementsPara(post("/corridas/lookup").contentType(MediaType.APPLICATION_JSON).content(corpo)));
+        mockMvc.perform(post("/corridas/lookup").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(jsonPath("$.length()").value(2_500))
+                .andExpect(jsonPath("$[0].encontrado").value(false))
+                .andExpect(jsonPath("$[2499].encontrado").value(true))
+                .andExpect(jsonPath("$[2499].item.pista.id").value(corrida.getPista().getId().toString()));
+    }
+
     @Test
     void update() {
     }
@@ -30,6 +262,103 @@ class CorridaControllerTest {
     void delete() {
     }
 
+    @Test
+    @Transactional
+    void deleteDeCorridaForaDeCampeonatoExecutaQuatroComandos() throws Exception {
+        Corrida corrida = DadosTeste.temporada(entityManager, "Exclusão", 1).getCorridas().get(0);
+        Corrida avulsa = DadosTeste.corrida(entityManager, corrida.getPista(), corrida.getPodio());
+        ContadorSql contador = new ContadorSql(entityManagerFactory);
+        entityManager.flush();
+        entityManager.clear();
+        contador.zerar();
+
+        // posições em campeonatos (nenhuma) + corrida_view + pódio + corrida, sem select de existência
+        String url = "/corridas/" + avulsa.getId();
+        mockMvc.perform(MockMvcRequestBuilders.delete(url)).andExpect(status().isNoContent());
+        assertEquals(4, contador.statements());
+        assertNull(entityManager.find(Corrida.class, avulsa.getId()));
+        assertNull(entityManager.find(CorridaView.class, avulsa.getId()));
+
+        // nenhuma linha afetada: 404
+        mockMvc.perform(MockMvcRequestBuilders.delete(url)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void deleteEmLoteTiraAsCorridasDosCampeonatos() throws Exception {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Lote", 3);
+        List<Corrida> corridas = campeonato.getCorridas();
+        String corpo = Stream.of(corridas.get(0).getId(), corridas.get(2).getId(), UUID.randomUUID())
+                .map(id -> "\"" + id + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        entityManager.flush();
+
+        mockMvc.perform(post("/corridas/delete").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recebidos").value(3))
+                .andExpect(jsonPath("$.removidos").value(2));
+        mockMvc.perform(get("/campeonatos/" + campeonato.getId()).param("fields", "corridas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.corridas.length()").value(1))
+                .andExpect(jsonPath("$.corridas[0].id").value(corridas.get(1).getId().toString()));
+    }
+
+    @Test
+    @Transactional
+    void viewAcompanhaAlteracoesDePistaPaisEPiloto() throws Exception {
+        Corrida corrida = DadosTeste.temporada(entityManager, "Leitura", 1).getCorridas().get(0);
+        UUID pista = corrida.getPista().getId();
+        UUID pais = corrida.getPista().getPais().getId();
+        UUID vencedor = corrida.getPodio().get(0).getId();
+        entityManager.flush();
+        entityManager.clear();
+        String url = "/corridas/" + corrida.getId();
+        String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+
+        pistaService.update(pista, new PistaRequestDTO(pais, 7.5, "DIFICIL"));
+        paisService.update(pais, new PaisRequestDTO("Leitura País Novo"));
+        pilotoService.update(vencedor, new PilotoRequestDTO("Leitura Campeão", "Leitura Equipe Nova"));
+
+        mockMvc.perform(get(url).param("expand", "*").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pista.distancia").value(7.5))
+                .andExpect(jsonPath("$.pista.dificuldade").value("DIFICIL"))
+                .andExpect(jsonPath("$.pista.pais.nome").value("Leitura País Novo"))
+                .andExpect(jsonPath("$.podio[0].nome").value("Leitura Campeão"))
+                .andExpect(jsonPath("$.podio[0].equipe").value("Leitura Equipe Nova"));
+        mockMvc.perform(get("/corridas/buscar/pais").param("nome", "leitura país novo"))
+                .andExpect(jsonPath("$[0].id").value(corrida.getId().toString()));
+    }
+
+    @Test
+    @Transactional
+    void verificarRecriaCorrigeERemoveLinhasDaView() throws Exception {
+        List<Corrida> corridas = DadosTeste.temporada(entityManager, "Verificação", 2).getCorridas();
+        CorridaView orfa = CorridaViewMapper.toView(UUID.randomUUID(),
+                CorridaViewMapper.pista(corridas.get(0).getPista()), List.of());
+        entityManager.persist(orfa);
+        entityManager.flush();
+        // como se gravado fora da aplicação: uma linha a menos, uma desatualizada e uma sem corrida
+        corridaViewRepository.deleteByIds(List.of(corridas.get(0).getId()));
+        entityManager.createQuery("update CorridaView v set v.paisNome = 'Errado' where v.id = :id")
+                .setParameter("id", corridas.get(1).getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        mockMvc.perform(post("/corridas/view/verificar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.corrigidas", greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.removidas", greaterThanOrEqualTo(1)));
+
+        mockMvc.perform(get("/corridas/" + corridas.get(0).getId()).param("expand", "pista.pais,podio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pista.pais.nome").value("Verificação País 0"))
+                .andExpect(jsonPath("$.podio.length()").value(3));
+        mockMvc.perform(get("/corridas/" + corridas.get(1).getId()).param("expand", "pista.pais"))
+                .andExpect(jsonPath("$.pista.pais.nome").value("Verificação País 1"));
+        assertNull(entityManager.find(CorridaView.class, orfa.getId()));
+    }
+
     @Test
     void findByPiloto() {
     }
@@ -37,4 +366,13 @@ class CorridaControllerTest {
     @Test
     void findByPais() {
     }
-}
\ No newline at end of file
+
+    private long statementsPara(RequestBuilder request) throws Exception {
+        ContadorSql contador = new ContadorSql(entityManagerFactory);
+        entityManager.flush();
+        entityManager.clear();
+        contador.zerar();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return contador.statements();
+    }
+}
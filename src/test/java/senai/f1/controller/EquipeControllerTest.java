@@ -0,0 +1,81 @@
+package senai.f1.controller;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.model.Campeonato;
+import senai.f1.support.ContadorSql;
+import senai.f1.support.DadosTeste;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class EquipeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void desempenhoAgrupaPodiosPorCampeonatoDificuldadeEPais() throws Exception {
+        // Pilotos A e B são da Equipe 1 e o pódio gira entre A, B e C: a equipe sobe ao pódio duas vezes
+        // por corrida e vence quando A ou B largam na frente (corridas 0, 1, 3 e 4)
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Desempenho", 6);
+        ContadorSql contador = new ContadorSql(entityManagerFactory);
+        entityManager.flush();
+        entityManager.clear();
+        contador.zerar();
+
+        mockMvc.perform(get("/equipes/{equipe}/desempenho", "desempenho EQUIPE 1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.equipe").value("desempenho EQUIPE 1"))
+                .andExpect(jsonPath("$.podios").value(12))
+                .andExpect(jsonPath("$.vitorias").value(4))
+                .andExpect(jsonPath("$.campeonatos.length()").value(1))
+                .andExpect(jsonPath("$.campeonatos[0].id").value(campeonato.getId().toString()))
+                .andExpect(jsonPath("$.campeonatos[0].podios").value(12))
+                .andExpect(jsonPath("$.campeonatos[0].vitorias").value(4))
+                .andExpect(jsonPath("$.dificuldades.length()").value(3))
+                .andExpect(jsonPath("$.dificuldades[?(@.nome == 'FACIL')].vitorias").value(hasItem(2)))
+                .andExpect(jsonPath("$.dificuldades[?(@.nome == 'MEDIO')].vitorias").value(hasItem(2)))
+                .andExpect(jsonPath("$.dificuldades[?(@.nome == 'DIFICIL')].vitorias").value(hasItem(0)))
+                .andExpect(jsonPath("$.dificuldades[?(@.nome == 'DIFICIL')].podios").value(hasItem(4)))
+                .andExpect(jsonPath("$.paises.length()").value(6))
+                .andExpect(jsonPath("$.paises[0].podios").value(2));
+
+        // uma consulta agrupada por campeonato, uma por dificuldade e uma por país
+        assertEquals(3, contador.statements());
+    }
+
+    @Test
+    void desempenhoDeEquipeSemPodiosVemZerado() throws Exception {
+        DadosTeste.temporada(entityManager, "Zerada", 3);
+        entityManager.flush();
+
+        mockMvc.perform(get("/equipes/{equipe}/desempenho", "Equipe Inexistente"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.podios").value(0))
+                .andExpect(jsonPath("$.vitorias").value(0))
+                .andExpect(jsonPath("$.campeonatos.length()").value(0))
+                .andExpect(jsonPath("$.dificuldades.length()").value(0))
+                .andExpect(jsonPath("$.paises.length()").value(0));
+    }
+}
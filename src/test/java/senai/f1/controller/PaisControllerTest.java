@@ -4,13 +4,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static senai.f1.support.OrcamentoConsultas.consultasNoMaximo;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -36,13 +43,44 @@ class PaisControllerTest {
                 .andExpect(jsonPath("$.nome").value("China"));
     }
 
+    @Test
+    void listAllComCursorInvalidoResponde400() throws Exception {
+        // base64url inválido e base64url que não tem os 16 bytes de um UUID
+        for (String cursor : new String[]{"não é cursor", "YWJj"}) {
+            mockMvc.perform(get("/paises").param("cursor", cursor)).andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void deleteDePaisInexistenteResponde404() throws Exception {
+        mockMvc.perform(delete("/paises/" + UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
     @Test
     void listAll() throws Exception {
         mockMvc.perform(get("/paises")
                         .contentType("application/json"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].nome").value("Brasil"))
-                .andExpect(jsonPath("$[1].nome").value("Itália"))
-                .andExpect(jsonPath("$[2].nome").value("Alemanha"));
+                .andExpect(jsonPath("$[*].nome", hasItems("Brasil", "Itália", "Alemanha")));
+    }
+
+    @Test
+    void listAllComEtagDaPaginaRespondeNaoModificado() throws Exception {
+        String etag = mockMvc.perform(get("/paises"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/paises").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(consultasNoMaximo(1));
+    }
+
+    @Test
+    void endpointsDeLeituraRespeitamOrcamentoDeConsultas() throws Exception {
+        // versões da página (ETag) + página
+        mockMvc.perform(get("/paises")).andExpect(consultasNoMaximo(2));
+        mockMvc.perform(get("/paises/550e8400-e29b-41d4-a716-446655440000")).andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/paises/buscar").param("nome", "Itália")).andExpect(consultasNoMaximo(1));
     }
 }
\ No newline at end of file
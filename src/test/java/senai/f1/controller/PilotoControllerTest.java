@@ -0,0 +1,308 @@
+package senai.f1.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.configuration.CacheConfig;
+import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.dtos.request.PaisRequestDTO;
+import senai.f1.dtos.request.PilotoRequestDTO;
+import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.dtos.response.PaisResponseDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.Piloto;
+import senai.f1.repository.PilotoRepository;
+import senai.f1.service.CorridaService;
+import senai.f1.service.PaisService;
+import senai.f1.service.PilotoService;
+import senai.f1.service.PistaService;
+import senai.f1.support.DadosTeste;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static senai.f1.support.OrcamentoConsultas.consultasNoMaximo;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class PilotoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PilotoRepository pilotoRepository;
+
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private PaisService paisService;
+
+    @Autowired
+    private PistaService pistaService;
+
+    @Autowired
+    private PilotoService pilotoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void listAllPercorreTodasAsPaginasPeloCursor() throws Exception {
+        List<Piloto> pilotos = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Piloto piloto = new Piloto();
+            piloto.setNome("Piloto " + i);
+            piloto.setEquipe("Equipe " + (i % 10));
+            pilotos.add(piloto);
+        }
+        pilotoRepository.saveAll(pilotos);
+        long total = pilotoRepository.count();
+
+        Set<String> vistos = new HashSet<>();
+        String url = "/pilotos?limit=100";
+        int paginas = 0;
+        while (url != null) {
+            MvcResult result = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            List<String> ids = JsonPath.read(result.getResponse().getContentAsString(), "$[*].id");
+            assertTrue(ids.size() <= 100);
+            for (String id : ids) {
+                assertTrue(vistos.add(id), "Piloto repetido entre páginas: " + id);
+            }
+            url = proximaPagina(result.getResponse().getHeader(HttpHeaders.LINK));
+            paginas++;
+        }
+
+        assertEquals(total, vistos.size());
+        assertTrue(paginas >= 10);
+    }
+
+    @Test
+    void listAllLimitaOTamanhoDaPagina() throws Exception {
+        mockMvc.perform(get("/pilotos").param("limit", "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(lessThanOrEqualTo(100)));
+    }
+
+    private static String proximaPagina(String link) {
+        if (link == null) {
+            return null;
+        }
+        return link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+    }
+
+    @Test
+    void lookupDevolveNaOrdemPedidaComMarcadorDeNaoEncontrado() throws Exception {
+        Piloto primeiro = new Piloto();
+        primeiro.setNome("Piloto Lookup 1");
+        primeiro.setEquipe("Equipe Lookup");
+        Piloto segundo = new Piloto();
+        segundo.setNome("Piloto Lookup 2");
+        segundo.setEquipe("Equipe Lookup");
+        pilotoRepository.saveAllAndFlush(List.of(primeiro, segundo));
+        UUID ausente = UUID.randomUUID();
+
+        mockMvc.perform(post("/pilotos/lookup").contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + segundo.getId() + "\",\"" + ausente + "\",\"" + primeiro.getId() + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].item.nome").value("Piloto Lookup 2"))
+                .andExpect(jsonPath("$[1].id").value(ausente.toString()))
+                .andExpect(jsonPath("$[1].encontrado").value(false))
+                .andExpect(jsonPath("$[2].item.nome").value("Piloto Lookup 1"))
+                .andExpect(consultasNoMaximo(1));
+    }
+
+    @Test
+    void operacoesPorIdsSemIdsOuAcimaDoLimiteSaoRequisicaoInvalida() throws Exception {
+        mockMvc.perform(post("/pilotos/lookup").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= 10_000; i++) {
+            ids.add("\"" + UUID.randomUUID() + "\"");
+        }
+        mockMvc.perform(post("/pilotos/delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + String.join(",", ids) + "]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void estatisticasAgregamOsPodiosDoPiloto() throws Exception {
+        // O pódio gira entre A, B (Equipe 1) e C (Equipe 2): A vence as corridas 0 e 3, é segundo nas
+        // corridas 2 e 5 e terceiro nas corridas 1 e 4; B só chega à frente de A nas corridas 1 e 4
+        Campeonato temporada = DadosTeste.temporada(entityManager, "Estatísticas", 6);
+        Corrida primeira = temporada.getCorridas().get(0);
+        Piloto a = primeira.getPodio().get(0);
+        Piloto b = primeira.getPodio().get(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/pilotos/" + a.getId() + "/estatisticas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Estatísticas Piloto A"))
+                .andExpect(jsonPath("$.podios").value(6))
+                .andExpect(jsonPath("$.vitorias").value(2))
+                .andExpect(jsonPath("$.distanciaPodios").value(30.0))
+                .andExpect(jsonPath("$.posicoes[0].posicao").value(1))
+                .andExpect(jsonPath("$.posicoes[0].podios").value(2))
+                .andExpect(jsonPath("$.posicoes[2].posicao").value(3))
+                .andExpect(jsonPath("$.posicoes[2].podios").value(2))
+                .andExpect(jsonPath("$.paises.length()").value(6))
+                .andExpect(jsonPath("$.companheiros.length()").value(1))
+                .andExpect(jsonPath("$.companheiros[0].id").value(b.getId().toString()))
+                .andExpect(jsonPath("$.companheiros[0].aFrente").value(4))
+                .andExpect(jsonPath("$.companheiros[0].atras").value(2))
+                .andExpect(consultasNoMaximo(4));
+    }
+
+    // Sem a transação do teste: o cache é transacional, então as estatísticas só entram nele e saem dele no
+    // commit. Os registros criados aqui são gravados de verdade e removidos no fim.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void corridaGravadaInvalidaAsEstatisticasDosPilotosDoPodioDepoisDoCommit() throws Exception {
+        PaisResponseDTO pais = paisService.create(new PaisRequestDTO("Invalidação País"));
+        PistaResponseDTO pista = pistaService.create(new PistaRequestDTO(pais.id(), 5.0, "FACIL"));
+        List<UUID> podio = Stream.of("A", "B", "C")
+                .map(p -> pilotoService.create(new PilotoRequestDTO("Invalidação Piloto " + p, "Invalidação")).id())
+                .toList();
+        String url = "/pilotos/" + podio.get(0) + "/estatisticas";
+        List<UUID> corridas = new ArrayList<>();
+        try {
+            corridas.add(corridaService.create(new CorridaRequestDTO(pista.id(), podio)).id());
+            mockMvc.perform(get(url))
+                    .andExpect(jsonPath("$.podios").value(1))
+                    .andExpect(jsonPath("$.vitorias").value(1));
+
+            // gravação desfeita: o cache continua valendo
+            transactionTemplate.executeWithoutResult(status -> {
+                corridaService.create(new CorridaRequestDTO(pista.id(), podio));
+                status.setRollbackOnly();
+            });
+            mockMvc.perform(get(url))
+                    .andExpect(jsonPath("$.podios").value(1))
+                    .andExpect(consultasNoMaximo(0));
+
+            List<UUID> invertido = List.of(podio.get(1), podio.get(0), podio.get(2));
+            corridas.add(corridaService.create(new CorridaRequestDTO(pista.id(), invertido)).id());
+            mockMvc.perform(get(url))
+                    .andExpect(jsonPath("$.podios").value(2))
+                    .andExpect(jsonPath("$.vitorias").value(1));
+        } finally {
+            if (!corridas.isEmpty()) {
+                corridaService.deleteAllById(corridas);
+            }
+            pilotoService.deleteAllById(podio);
+            pistaService.delete(pista.id());
+            paisService.delete(pais.id());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void exclusaoDePilotosEsvaziaOCacheDeEstatisticasDepoisDoCommit() throws Exception {
+        UUID piloto = pilotoService.create(new PilotoRequestDTO("Piloto Excluído", "Equipe Excluída")).id();
+        UUID outro = pilotoService.create(new PilotoRequestDTO("Piloto Excluído em Lote", "Equipe Excluída")).id();
+        Cache cache = cacheManager.getCache(CacheConfig.ESTATISTICAS_PILOTO);
+        try {
+            mockMvc.perform(get("/pilotos/" + outro + "/estatisticas")).andExpect(status().isOk());
+            assertNotNull(cache.get(outro));
+
+            // exclusão desfeita: o cache continua valendo
+            transactionTemplate.executeWithoutResult(status -> {
+                pilotoService.delete(piloto);
+                status.setRollbackOnly();
+            });
+            assertNotNull(cache.get(outro));
+
+            // o cache inteiro sai, não só o piloto removido
+            mockMvc.perform(delete("/pilotos/" + piloto)).andExpect(status().isNoContent());
+            assertNull(cache.get(outro));
+
+            mockMvc.perform(get("/pilotos/" + outro + "/estatisticas")).andExpect(status().isOk());
+            mockMvc.perform(post("/pilotos/delete").contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"" + outro + "\"]"))
+                    .andExpect(status().isOk());
+            assertNull(cache.get(outro));
+        } finally {
+            pilotoService.deleteAllById(List.of(piloto, outro));
+        }
+    }
+
+    @Test
+    void deleteDePilotoInexistenteResponde404() throws Exception {
+        mockMvc.perform(delete("/pilotos/" + UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void exclusaoDePilotoNoPodioResponde409() throws Exception {
+        Corrida corrida = DadosTeste.temporada(entityManager, "Pódio Excluído", 1).getCorridas().get(0);
+        Piloto vencedor = corrida.getPodio().get(0);
+        Piloto semPodio = DadosTeste.piloto(entityManager, "Sem Pódio", "Pódio Excluído");
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(delete("/pilotos/" + vencedor.getId())).andExpect(status().isConflict());
+        mockMvc.perform(post("/pilotos/delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + semPodio.getId() + "\",\"" + vencedor.getId() + "\"]"))
+                .andExpect(status().isConflict());
+
+        assertTrue(pilotoRepository.existsById(vencedor.getId()));
+        assertTrue(pilotoRepository.existsById(semPodio.getId()));
+    }
+
+    @Test
+    void estatisticasDePilotoInexistenteFalham() {
+        assertThrows(Exception.class,
+                () -> mockMvc.perform(get("/pilotos/" + UUID.randomUUID() + "/estatisticas")));
+    }
+
+    @Test
+    void endpointsDeLeituraRespeitamOrcamentoDeConsultas() throws Exception {
+        Piloto piloto = new Piloto();
+        piloto.setNome("Piloto Orçamento");
+        piloto.setEquipe("Equipe Orçamento");
+        pilotoRepository.saveAndFlush(piloto);
+
+        mockMvc.perform(get("/pilotos")).andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/pilotos/" + piloto.getId())).andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/pilotos/buscar/equipe").param("nome", "equipe orçamento"))
+                .andExpect(consultasNoMaximo(1));
+    }
+}
@@ -1,12 +1,52 @@
 package senai.f1.controller;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Pista;
+import senai.f1.support.DadosTeste;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static senai.f1.support.OrcamentoConsultas.consultasNoMaximo;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 class PistaControllerTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deleteDePistaInexistenteResponde404() throws Exception {
+        mockMvc.perform(delete("/pistas/" + UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void endpointsDeLeituraRespeitamOrcamentoDeConsultas() throws Exception {
+        Pista pista = DadosTeste.pista(entityManager, DadosTeste.pais(entityManager, "País Orçamento"), 5.0,
+                Dificuldade.FACIL);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/pistas")).andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/pistas/" + pista.getId())).andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/pistas/buscar/pais").param("nome", "país orçamento")).andExpect(consultasNoMaximo(1));
+        mockMvc.perform(get("/pistas/buscar/dificuldade").param("dificuldade", "FACIL"))
+                .andExpect(consultasNoMaximo(1));
+    }
+}
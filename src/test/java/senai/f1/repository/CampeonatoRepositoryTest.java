@@ -1,10 +1,40 @@
 package senai.f1.repository;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import senai.f1.support.PlanoConsulta;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
 class CampeonatoRepositoryTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private CampeonatoRepository campeonatoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void buscaPorEquipeUsaIndicesEmTodaAJuncao() {
+        String plano = PlanoConsulta.explain(entityManager,
+                () -> campeonatoRepository.findCampeonatosByEquipe("equipe"), "equipe");
+        assertTrue(plano.contains("idx_piloto_equipe_normalizada"), plano);
+        assertTrue(plano.contains("idx_corrida_podio_podio_id"), plano);
+        assertFalse(plano.contains("tableScan"), plano);
+    }
+
+    @Test
+    void buscaPorCorridaUsaIndiceInverso() {
+        UUID corrida = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        String plano = PlanoConsulta.explain(entityManager,
+                () -> campeonatoRepository.findIdsByCorrida(corrida), corrida);
+        assertFalse(plano.contains("tableScan"), plano);
+    }
+}
@@ -1,10 +1,111 @@
 package senai.f1.repository;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.dtos.projection.CorridaRow;
+import senai.f1.dtos.projection.CorridaViewRow;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Corrida;
+import senai.f1.model.Pais;
+import senai.f1.model.Piloto;
+import senai.f1.model.PilotoNoPodio;
+import senai.f1.model.Pista;
+import senai.f1.support.DadosTeste;
+import senai.f1.support.PlanoConsulta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Transactional
 class CorridaRepositoryTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private CorridaRepository corridaRepository;
+
+    @Autowired
+    private PistaRepository pistaRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private CorridaViewRepository corridaViewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void paginacaoPorCursorRetornaPaginasContiguasEOrdenadas() {
+        Pais pais = paisRepository.findByNomeNormalizado("brasil").orElseThrow();
+        Pista pista = new Pista();
+        pista.setPais(pais);
+        pista.setDistancia(4.3);
+        pista.setDificuldade(Dificuldade.MEDIO);
+        pistaRepository.save(pista);
+
+        List<Corrida> corridas = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Corrida corrida = new Corrida();
+            corrida.setPista(pista);
+            corrida.setPodio(List.of());
+            corridas.add(corrida);
+        }
+        corridaRepository.saveAll(corridas);
+
+        List<UUID> lidos = new ArrayList<>();
+        List<CorridaRow> pagina = corridaRepository.findAllByOrderByIdAsc(Limit.of(250));
+        while (!pagina.isEmpty()) {
+            pagina.forEach(c -> lidos.add(c.id()));
+            UUID ultimo = pagina.get(pagina.size() - 1).id();
+            pagina = corridaRepository.findByIdGreaterThanOrderByIdAsc(ultimo, Limit.of(250));
+        }
+
+        List<UUID> todos = corridaRepository.findAll().stream().map(Corrida::getId).sorted().toList();
+        assertEquals(todos.size(), lidos.size());
+        assertEquals(todos.size(), lidos.stream().distinct().count());
+        assertTrue(lidos.containsAll(todos));
+        // crescentes dentro de cada página e na passagem de uma para a outra; a forma texto do UUID segue a
+        // ordem de bytes do banco (UUID.compareTo compara com sinal)
+        for (int i = 1; i < lidos.size(); i++) {
+            assertTrue(lidos.get(i - 1).toString().compareTo(lidos.get(i).toString()) < 0, "posição " + i);
+        }
+    }
+
+    @Test
+    void buscaPorPaisLeACorridaViewComPistaPaisEPodio() {
+        Pais pais = paisRepository.findByNomeNormalizado("itália").orElseThrow();
+        Pista pista = DadosTeste.pista(entityManager, pais, 5.8, Dificuldade.DIFICIL);
+        Piloto vencedor = DadosTeste.piloto(entityManager, "Vencedor Itália", "Equipe Itália");
+        Corrida corrida = DadosTeste.corrida(entityManager, pista, List.of(vencedor));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CorridaViewRow> linhas = corridaViewRepository.findByPaisNomeNormalizado("itália");
+
+        CorridaViewRow linha = linhas.stream().filter(c -> c.id().equals(corrida.getId())).findFirst().orElseThrow();
+        assertEquals(pista.getId(), linha.pistaId());
+        assertEquals("Itália", linha.paisNome());
+        assertEquals(Dificuldade.DIFICIL, linha.dificuldade());
+        assertEquals(List.of(vencedor.getId()), linha.podio().stream().map(PilotoNoPodio::id).toList());
+    }
+
+    @Test
+    void buscaPorPilotoUsaIndicesEmTodaAJuncao() {
+        // o filtro passa pela junção do pódio e a linha de corrida_view sai pela chave
+        String plano = PlanoConsulta.explain(entityManager,
+                () -> corridaViewRepository.findByPiloto("Piloto"), "Piloto");
+        assertTrue(plano.contains("idx_piloto_nome"), plano);
+        assertTrue(plano.contains("idx_corrida_podio_podio_id"), plano);
+        assertFalse(plano.contains("tableScan"), plano);
+    }
+}
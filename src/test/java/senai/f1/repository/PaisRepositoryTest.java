@@ -1,10 +1,13 @@
 package senai.f1.repository;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
 import senai.f1.model.Pais;
+import senai.f1.support.PlanoConsulta;
 
 import java.util.Optional;
 
@@ -16,10 +19,29 @@ class PaisRepositoryTest {
     @Autowired
     private PaisRepository paisRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void deveBuscarPorNome() {
-        Optional<Pais> encontrado = paisRepository.findByNomeIgnoreCase("Brasil");
+        Optional<Pais> encontrado = paisRepository.findByNomeNormalizado("brasil");
         assertTrue(encontrado.isPresent());
         assertEquals("Brasil", encontrado.get().getNome());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    void nomeNormalizadoAcompanhaONomeEUsaIndice() {
+        Pais pais = new Pais();
+        pais.setNome("  Nova Zelândia ");
+        paisRepository.saveAndFlush(pais);
+        pais.setNome("NEW ZEALAND");
+        paisRepository.saveAndFlush(pais);
+
+        assertTrue(paisRepository.findByNomeNormalizado("nova zelândia").isEmpty());
+        assertEquals(pais.getId(), paisRepository.findByNomeNormalizado("new zealand").orElseThrow().getId());
+        String plano = PlanoConsulta.explain(entityManager,
+                () -> paisRepository.findByNomeNormalizado("brasil"), "brasil");
+        assertTrue(plano.contains("idx_pais_nome_normalizado"), plano);
+    }
+}
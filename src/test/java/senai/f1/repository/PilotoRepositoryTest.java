@@ -1,10 +1,35 @@
 package senai.f1.repository;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.support.DadosTeste;
+import senai.f1.support.PlanoConsulta;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Transactional
 class PilotoRepositoryTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private PilotoRepository pilotoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void buscaPorEquipeIgnoraCaixaEUsaIndice() {
+        DadosTeste.piloto(entityManager, "Piloto Índice", "Equipe Índice ");
+        entityManager.flush();
+
+        assertEquals(1, pilotoRepository.findByEquipeNormalizada("equipe índice").size());
+        String plano = PlanoConsulta.explain(entityManager,
+                () -> pilotoRepository.findByEquipeNormalizada("equipe índice"), "equipe índice");
+        assertTrue(plano.contains("idx_piloto_equipe_normalizada"), plano);
+    }
+}
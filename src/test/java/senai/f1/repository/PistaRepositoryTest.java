@@ -1,10 +1,29 @@
 package senai.f1.repository;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import senai.f1.support.PlanoConsulta;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
 class PistaRepositoryTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private PistaRepository pistaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void buscaPorPaisChegaAsPistasPorIndices() {
+        String plano = PlanoConsulta.explain(entityManager,
+                () -> pistaRepository.findByPaisNomeNormalizado("brasil"), "brasil");
+        assertTrue(plano.contains("idx_pais_nome_normalizado"), plano);
+        assertTrue(plano.contains("idx_pista_pais_id"), plano);
+    }
+}
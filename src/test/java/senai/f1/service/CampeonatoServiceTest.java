@@ -1,10 +1,76 @@
 package senai.f1.service;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.dtos.request.CampeonatoRequestDTO;
+import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.dtos.response.ClassificacaoResponseDTO;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Pista;
+import senai.f1.support.DadosTeste;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Transactional
 class CampeonatoServiceTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private CampeonatoService campeonatoService;
+
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private ClassificacaoService classificacaoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void classificacaoAcompanhaAlteracoesDeCorridasECampeonato() {
+        Pista pista = DadosTeste.pista(entityManager, DadosTeste.pais(entityManager, "Classificação"), 5.0,
+                Dificuldade.MEDIO);
+        UUID a = DadosTeste.piloto(entityManager, "Classif A", "Equipe 1").getId();
+        UUID b = DadosTeste.piloto(entityManager, "Classif B", "Equipe 1").getId();
+        UUID c = DadosTeste.piloto(entityManager, "Classif C", "Equipe 2").getId();
+        UUID primeira = corridaService.create(new CorridaRequestDTO(pista.getId(), List.of(a, b, c))).id();
+        UUID segunda = corridaService.create(new CorridaRequestDTO(pista.getId(), List.of(a, c, b))).id();
+        UUID terceira = corridaService.create(new CorridaRequestDTO(pista.getId(), List.of(c, b, a))).id();
+
+        UUID campeonato = campeonatoService.create(new CampeonatoRequestDTO(List.of(primeira, segunda))).id();
+        assertTabela(campeonato, List.of(a, b, c), List.of(50, 33, 33));
+
+        corridaService.update(segunda, new CorridaRequestDTO(pista.getId(), List.of(b, a, c)));
+        assertTabela(campeonato, List.of(a, b, c), List.of(43, 43, 30));
+
+        campeonatoService.update(campeonato, new CampeonatoRequestDTO(List.of(segunda, terceira)));
+        assertTabela(campeonato, List.of(b, c, a), List.of(43, 40, 33));
+
+        corridaService.delete(segunda);
+        assertTabela(campeonato, List.of(c, b, a), List.of(25, 18, 15));
+
+        corridaService.deleteAllById(List.of(terceira, primeira));
+        entityManager.flush();
+        entityManager.clear();
+        assertTrue(classificacaoService.findByCampeonato(campeonato).isEmpty());
+    }
+
+    private void assertTabela(UUID campeonato, List<UUID> pilotos, List<Integer> pontos) {
+        entityManager.flush();
+        entityManager.clear();
+        List<ClassificacaoResponseDTO> tabela = classificacaoService.findByCampeonato(campeonato);
+        assertEquals(pilotos, tabela.stream().map(l -> l.piloto().id()).toList());
+        assertEquals(pontos, tabela.stream().map(ClassificacaoResponseDTO::pontos).toList());
+        assertEquals(List.of(1, 2, 3), tabela.stream().map(ClassificacaoResponseDTO::posicao).toList());
+    }
+}
@@ -1,10 +1,112 @@
 package senai.f1.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.dtos.request.CorridaRequestDTO;
+import senai.f1.dtos.response.CorridaResponseDTO;
+import senai.f1.dtos.response.ImportacaoErroDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.enums.Dificuldade;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.Pista;
+import senai.f1.support.ContadorSql;
+import senai.f1.support.DadosTeste;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Transactional
 class CorridaServiceTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private CorridaService corridaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void exportarEntregaCadaCorridaUmaVezComPodioCompleto() {
+        Campeonato campeonato = DadosTeste.temporada(entityManager, "Export", 5);
+        Corrida semPodio = DadosTeste.corrida(entityManager, campeonato.getCorridas().get(0).getPista(), List.of());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CorridaResponseDTO> exportadas = new ArrayList<>();
+        corridaService.exportar(exportadas::add);
+
+        assertEquals(exportadas.size(), exportadas.stream().map(CorridaResponseDTO::id).distinct().count());
+        for (Corrida corrida : campeonato.getCorridas()) {
+            CorridaResponseDTO dto = exportadas.stream()
+                    .filter(c -> c.id().equals(corrida.getId())).findFirst().orElseThrow();
+            assertEquals(3, dto.podio().size());
+            assertNotNull(dto.pista().pais().nome());
+        }
+        assertTrue(exportadas.stream().anyMatch(c -> c.id().equals(semPodio.getId()) && c.podio().isEmpty()));
+    }
+
+    @Test
+    void importarGravaOsValidosEmLotesEReportaErrosPorIndice() {
+        Pista pista = DadosTeste.pista(entityManager, DadosTeste.pais(entityManager, "Bulk"), 5.0, Dificuldade.FACIL);
+        List<UUID> podio = List.of(
+                DadosTeste.piloto(entityManager, "Bulk A", "Bulk").getId(),
+                DadosTeste.piloto(entityManager, "Bulk B", "Bulk").getId(),
+                DadosTeste.piloto(entityManager, "Bulk C", "Bulk").getId());
+        entityManager.flush();
+
+        List<CorridaRequestDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            dtos.add(new CorridaRequestDTO(pista.getId(), podio));
+        }
+        dtos.add(new CorridaRequestDTO(UUID.randomUUID(), podio));
+        dtos.add(new CorridaRequestDTO(pista.getId(), List.of(UUID.randomUUID())));
+        dtos.add(null);
+
+        ContadorSql contador = new ContadorSql(entityManagerFactory);
+        contador.zerar();
+        ImportacaoResponseDTO resultado = corridaService.importar(dtos);
+
+        assertEquals(123, resultado.recebidos());
+        assertEquals(120, resultado.importados());
+        assertEquals(List.of(120, 121, 122), resultado.erros().stream().map(ImportacaoErroDTO::indice).toList());
+        // 2 consultas (pistas e pilotos) + inserts de corrida, corrida_podio e corrida_view em lotes de 50
+        assertTrue(contador.statements() <= 11, "statements: " + contador.statements());
+        Long gravadas = entityManager.createQuery(
+                "select count(c) from Corrida c where c.pista.id = :pista", Long.class)
+                .setParameter("pista", pista.getId()).getSingleResult();
+        assertEquals(120, gravadas);
+    }
+
+    @Test
+    void importarRejeitaOsRegistrosQueOCreateRejeitaria() {
+        Pista pista = DadosTeste.pista(entityManager, DadosTeste.pais(entityManager, "Regras"), 5.0, Dificuldade.FACIL);
+        UUID piloto = DadosTeste.piloto(entityManager, "Regras A", "Regras").getId();
+        UUID outro = DadosTeste.piloto(entityManager, "Regras B", "Regras").getId();
+        entityManager.flush();
+
+        ImportacaoResponseDTO resultado = corridaService.importar(List.of(
+                new CorridaRequestDTO(pista.getId(), List.of(piloto, outro)),
+                new CorridaRequestDTO(pista.getId(), List.of(piloto, outro, piloto)),
+                new CorridaRequestDTO(null, List.of(piloto)),
+                new CorridaRequestDTO(pista.getId(), null)));
+
+        assertEquals(1, resultado.importados());
+        assertEquals(List.of(
+                new ImportacaoErroDTO(1, "Piloto repetido no pódio"),
+                new ImportacaoErroDTO(2, "Pista obrigatória"),
+                new ImportacaoErroDTO(3, "Pódio obrigatório")), resultado.erros());
+    }
+}
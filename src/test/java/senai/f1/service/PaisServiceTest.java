@@ -1,11 +1,20 @@
 package senai.f1.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import senai.f1.configuration.CacheConfig;
 import senai.f1.dtos.request.PaisRequestDTO;
+import senai.f1.dtos.request.PistaRequestDTO;
 import senai.f1.dtos.response.PaisResponseDTO;
+import senai.f1.dtos.response.PistaResponseDTO;
+import senai.f1.support.ContadorSql;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,6 +25,18 @@ class PaisServiceTest {
     @Autowired
     private PaisService service;
 
+    @Autowired
+    private PistaService pistaService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void create() {
         PaisRequestDTO paisRequestDTO = new PaisRequestDTO("Portugal");
@@ -24,4 +45,71 @@ class PaisServiceTest {
         assertNotNull(response.id());
         assertEquals("Portugal", response.nome());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByNomeUsaCacheAteOPaisMudar() {
+        PaisResponseDTO pais = service.create(new PaisRequestDTO("Cachelândia"));
+        CacheStats antes = stats(CacheConfig.PAISES_POR_NOME);
+        ContadorSql contador = new ContadorSql(entityManagerFactory);
+        contador.zerar();
+
+        service.findByNome("Cachelândia");
+        service.findByNome("  cachelândia ");
+        service.findByNome("CACHELÂNDIA");
+
+        assertEquals(1, contador.statements());
+        CacheStats depois = stats(CacheConfig.PAISES_POR_NOME).minus(antes);
+        assertEquals(1, depois.missCount());
+        assertEquals(2, depois.hitCount());
+
+        service.update(pais.id(), new PaisRequestDTO("Nova Cachelândia"));
+        assertThrows(RuntimeException.class, () -> service.findByNome("Cachelândia"));
+        assertEquals("Nova Cachelândia", service.findById(pais.id()).nome());
+
+        service.delete(pais.id());
+        assertThrows(RuntimeException.class, () -> service.findById(pais.id()));
+    }
+
+    // Sem transação no teste: o cache é transacional, então país e pista só saem dele no commit da alteração
+    @Test
+    void alteracaoSoTiraPaisEPistaDoCacheNoCommit() {
+        PaisResponseDTO pais = service.create(new PaisRequestDTO("Commitlândia"));
+        PistaResponseDTO pista = pistaService.create(new PistaRequestDTO(pais.id(), 5.0, "FACIL"));
+        org.springframework.cache.Cache paises = cacheManager.getCache(CacheConfig.PAISES);
+        org.springframework.cache.Cache pistas = cacheManager.getCache(CacheConfig.PISTAS);
+        try {
+            service.findById(pais.id());
+            pistaService.findById(pista.id());
+            assertNotNull(paises.get(pais.id()));
+            assertNotNull(pistas.get(pista.id()));
+
+            // alteração desfeita: o cache continua valendo
+            transactionTemplate.executeWithoutResult(status -> {
+                service.update(pais.id(), new PaisRequestDTO("Commitlândia Desfeita"));
+                pistaService.update(pista.id(), new PistaRequestDTO(pais.id(), 6.0, "MEDIO"));
+                status.setRollbackOnly();
+            });
+            assertEquals("Commitlândia", service.findById(pais.id()).nome());
+            assertNotNull(pistas.get(pista.id()));
+
+            // antes do commit uma leitura ainda encontra a linha antiga no cache; depois dele, não há o que achar
+            transactionTemplate.executeWithoutResult(status -> {
+                service.update(pais.id(), new PaisRequestDTO("Nova Commitlândia"));
+                pistaService.update(pista.id(), new PistaRequestDTO(pais.id(), 6.0, "MEDIO"));
+                assertNotNull(paises.get(pais.id()));
+                assertNotNull(pistas.get(pista.id()));
+            });
+            assertNull(paises.get(pais.id()));
+            assertNull(pistas.get(pista.id()));
+            assertEquals("Nova Commitlândia", service.findById(pais.id()).nome());
+            assertEquals(6.0, pistaService.findById(pista.id()).distancia());
+        } finally {
+            pistaService.delete(pista.id());
+            service.delete(pais.id());
+        }
+    }
+
+    private CacheStats stats(String nome) {
+        return ((Cache<?, ?>) cacheManager.getCache(nome).getNativeCache()).stats();
+    }
+}
@@ -1,10 +1,36 @@
 package senai.f1.service;
 
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.dtos.request.PilotoRequestDTO;
+import senai.f1.dtos.response.ImportacaoErroDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Transactional
 class PilotoServiceTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private PilotoService pilotoService;
+
+    @Test
+    void importarRejeitaOsRegistrosQueOCreateRejeitaria() {
+        ImportacaoResponseDTO resultado = pilotoService.importar(List.of(
+                new PilotoRequestDTO("Importado Valido", "Importada"),
+                new PilotoRequestDTO(" ", "Importada"),
+                new PilotoRequestDTO("Importado Sem Equipe", null)));
+
+        assertEquals(1, resultado.importados());
+        assertEquals(List.of(
+                new ImportacaoErroDTO(1, "Nome do piloto obrigatório"),
+                new ImportacaoErroDTO(2, "Equipe obrigatória")), resultado.erros());
+    }
+}
@@ -1,10 +1,47 @@
 package senai.f1.service;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import senai.f1.dtos.request.PistaRequestDTO;
+import senai.f1.dtos.response.ImportacaoErroDTO;
+import senai.f1.dtos.response.ImportacaoResponseDTO;
+import senai.f1.support.DadosTeste;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Transactional
 class PistaServiceTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private PistaService pistaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void importarRejeitaOsRegistrosQueOCreateRejeitaria() {
+        UUID pais = DadosTeste.pais(entityManager, "Importação Pistas").getId();
+        entityManager.flush();
+
+        ImportacaoResponseDTO resultado = pistaService.importar(List.of(
+                new PistaRequestDTO(pais, 5.0, "FACIL"),
+                new PistaRequestDTO(pais, -5.0, "FACIL"),
+                new PistaRequestDTO(pais, 0.0, "FACIL"),
+                new PistaRequestDTO(null, 5.0, " ")));
+
+        assertEquals(1, resultado.importados());
+        assertEquals(List.of(
+                new ImportacaoErroDTO(1, "Distância deve ser positiva"),
+                new ImportacaoErroDTO(2, "Distância deve ser positiva"),
+                new ImportacaoErroDTO(3, "Dificuldade obrigatória; País obrigatório")), resultado.erros());
+    }
+}
@@ -0,0 +1,23 @@
+package senai.f1.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// Conta os statements preparados pelo Hibernate (requer hibernate.generate_statistics=true)
+public final class ContadorSql {
+
+    private final Statistics statistics;
+
+    public ContadorSql(EntityManagerFactory emf) {
+        this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void zerar() {
+        statistics.clear();
+    }
+
+    public long statements() {
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,103 @@
+package senai.f1.support;
+
+import jakarta.persistence.EntityManager;
+import senai.f1.enums.Dificuldade;
+import senai.f1.mappers.CorridaViewMapper;
+import senai.f1.model.Campeonato;
+import senai.f1.model.Corrida;
+import senai.f1.model.Pais;
+import senai.f1.model.Piloto;
+import senai.f1.model.Pista;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Monta cenários de teste direto pelo EntityManager
+public final class DadosTeste {
+
+    private DadosTeste() { }
+
+    public static Pais pais(EntityManager em, String nome) {
+        Pais pais = new Pais();
+        pais.setNome(nome);
+        em.persist(pais);
+        return pais;
+    }
+
+    public static Piloto piloto(EntityManager em, String nome, String equipe) {
+        Piloto piloto = new Piloto();
+        piloto.setNome(nome);
+        piloto.setEquipe(equipe);
+        em.persist(piloto);
+        return piloto;
+    }
+
+    public static Pista pista(EntityManager em, Pais pais, double distancia, Dificuldade dificuldade) {
+        Pista pista = new Pista();
+        pista.setPais(pais);
+        pista.setDistancia(distancia);
+        pista.setDificuldade(dificuldade);
+        em.persist(pista);
+        return pista;
+    }
+
+    public static Corrida corrida(EntityManager em, Pista pista, List<Piloto> podio) {
+        Corrida corrida = new Corrida();
+        corrida.setPista(pista);
+        corrida.setPodio(new ArrayList<>(podio));
+        em.persist(corrida);
+        // a linha de leitura que CorridaService grava junto com a corrida
+        em.persist(CorridaViewMapper.toView(corrida));
+        return corrida;
+    }
+
+    public static Campeonato campeonato(EntityManager em, List<Corrida> corridas) {
+        Campeonato campeonato = new Campeonato();
+        campeonato.setCorridas(new ArrayList<>(corridas));
+        em.persist(campeonato);
+        return campeonato;
+    }
+
+    // Temporada com uma pista e um país por corrida e pódio de três pilotos
+    public static Campeonato temporada(EntityManager em, String prefixo, int numeroCorridas) {
+        List<Piloto> pilotos = List.of(
+                piloto(em, prefixo + " Piloto A", prefixo + " Equipe 1"),
+                piloto(em, prefixo + " Piloto B", prefixo + " Equipe 1"),
+                piloto(em, prefixo + " Piloto C", prefixo + " Equipe 2"));
+        List<Corrida> corridas = new ArrayList<>();
+        for (int i = 0; i < numeroCorridas; i++) {
+            Pais pais = pais(em, prefixo + " País " + i);
+            Pista pista = pista(em, pais, 4.0 + i % 3, Dificuldade.values()[i % Dificuldade.values().length]);
+            List<Piloto> podio = List.of(pilotos.get(i % 3), pilotos.get((i + 1) % 3), pilotos.get((i + 2) % 3));
+            corridas.add(corrida(em, pista, podio));
+        }
+        return campeonato(em, corridas);
+    }
+
+    // Várias temporadas sobre o mesmo calendário e o mesmo grid de 20 pilotos: pistas, países e pilotos se
+    // repetem de uma temporada para outra, e o pódio gira pelo grid
+    public static List<Campeonato> temporadas(EntityManager em, String prefixo, int numeroTemporadas,
+                                              int corridasPorTemporada) {
+        List<Pista> calendario = new ArrayList<>();
+        for (int i = 0; i < corridasPorTemporada; i++) {
+            Pais pais = pais(em, prefixo + " País " + i);
+            calendario.add(pista(em, pais, 4.0 + i % 3, Dificuldade.values()[i % Dificuldade.values().length]));
+        }
+        List<Piloto> grid = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            grid.add(piloto(em, prefixo + " Piloto " + i, prefixo + " Equipe " + i / 2));
+        }
+        List<Campeonato> campeonatos = new ArrayList<>();
+        for (int t = 0; t < numeroTemporadas; t++) {
+            List<Corrida> corridas = new ArrayList<>();
+            for (int i = 0; i < corridasPorTemporada; i++) {
+                int vencedor = (t + i) % grid.size();
+                List<Piloto> podio = List.of(grid.get(vencedor), grid.get((vencedor + 1) % grid.size()),
+                        grid.get((vencedor + 2) % grid.size()));
+                corridas.add(corrida(em, calendario.get(i), podio));
+            }
+            campeonatos.add(campeonato(em, corridas));
+        }
+        return campeonatos;
+    }
+}
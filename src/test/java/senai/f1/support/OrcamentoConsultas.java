@@ -0,0 +1,24 @@
+package senai.f1.support;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import senai.f1.configuration.ContadorConsultasFilter;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Orçamento de SQL por endpoint nos testes de controller, lido do header X-Query-Count:
+// mockMvc.perform(get("/corridas")).andExpect(consultasNoMaximo(2))
+public final class OrcamentoConsultas {
+
+    private OrcamentoConsultas() { }
+
+    public static ResultMatcher consultasNoMaximo(int maximo) {
+        return result -> {
+            String header = result.getResponse().getHeader(ContadorConsultasFilter.HEADER);
+            assertNotNull(header, "Resposta sem " + ContadorConsultasFilter.HEADER);
+            int consultas = Integer.parseInt(header);
+            assertTrue(consultas <= maximo, () -> String.format("%s %s executou %d consultas (orçamento %d)",
+                    result.getRequest().getMethod(), result.getRequest().getRequestURI(), consultas, maximo));
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package senai.f1.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import senai.f1.configuration.ContadorConsultas;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Plano de execução do H2 (modo PostgreSQL) para conferir qual índice atende uma consulta.
+// O SQL não é copiado à mão: é o que o Hibernate gerou para o método do repositório, capturado pelo
+// ContadorConsultas; os "?" recebem os parâmetros na ordem em que aparecem no SQL.
+public final class PlanoConsulta {
+
+    private PlanoConsulta() { }
+
+    public static String explain(EntityManager em, Runnable consulta, Object... parametros) {
+        Query explain = em.createNativeQuery("explain " + sql(em, consulta));
+        for (int i = 0; i < parametros.length; i++) {
+            explain.setParameter(i + 1, parametros[i]);
+        }
+        return explain.getSingleResult().toString();
+    }
+
+    // O único statement executado pela consulta; o flush antes evita capturar inserts pendentes
+    public static String sql(EntityManager em, Runnable consulta) {
+        if (em.isJoinedToTransaction()) {
+            em.flush();
+        }
+        ContadorConsultas.Registro registro = ContadorConsultas.iniciar();
+        try {
+            consulta.run();
+        } finally {
+            ContadorConsultas.encerrar();
+        }
+        List<String> sqls = registro.repetidos(1).stream().map(Map.Entry::getKey).toList();
+        assertEquals(1, registro.total(), () -> "Esperado um statement: " + sqls);
+        return sqls.get(0);
+    }
+}
@@ -1,3 +1,3 @@
-INSERT INTO pais (id, nome) VALUES ('550e8400-e29b-41d4-a716-446655440000', 'Brasil');
-INSERT INTO pais (id, nome) VALUES ('123e4567-e89b-12d3-a456-426614174000', 'Itália');
-INSERT INTO pais (id, nome) VALUES ('a63f3ea0-565c-404b-ad08-984938a5840c', 'Alemanha');
\ No newline at end of file
+INSERT INTO pais (id, nome, nome_normalizado, versao) VALUES ('550e8400-e29b-41d4-a716-446655440000', 'Brasil', 'brasil', 0);
+INSERT INTO pais (id, nome, nome_normalizado, versao) VALUES ('123e4567-e89b-12d3-a456-426614174000', 'Itália', 'itália', 0);
+INSERT INTO pais (id, nome, nome_normalizado, versao) VALUES ('a63f3ea0-565c-404b-ad08-984938a5840c', 'Alemanha', 'alemanha', 0);